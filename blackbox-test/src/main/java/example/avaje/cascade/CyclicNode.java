@@ -0,0 +1,30 @@
+package example.avaje.cascade;
+
+import io.avaje.validation.constraints.NotBlank;
+import io.avaje.validation.constraints.Valid;
+
+@Valid
+public class CyclicNode {
+
+  @NotBlank
+  private final String name;
+
+  @Valid
+  private CyclicNode next;
+
+  public CyclicNode(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public CyclicNode getNext() {
+    return next;
+  }
+
+  public void setNext(CyclicNode next) {
+    this.next = next;
+  }
+}
@@ -0,0 +1,20 @@
+package example.avaje.cascade;
+
+import io.avaje.validation.constraints.NotBlank;
+import io.avaje.validation.constraints.Valid;
+
+import java.util.List;
+
+@Valid
+public record EShip(
+  @NotBlank String name,
+  @Valid List<ECargo> cargo, // constraint free, not cascaded with skipConstraintFree
+  @Valid ECargo main
+) {
+
+  @Valid
+  public record ECargo(String label, int weight, @Valid ETag tag) { }
+
+  @Valid
+  public record ETag(String code) { }
+}
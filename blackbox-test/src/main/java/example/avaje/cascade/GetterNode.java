@@ -0,0 +1,41 @@
+package example.avaje.cascade;
+
+import io.avaje.validation.constraints.NotBlank;
+import jakarta.validation.Valid;
+
+/** Final type that cascades to itself via getters only. */
+@Valid
+public final class GetterNode {
+
+  @NotBlank
+  private final String name;
+
+  private GetterNode left;
+  private GetterNode right;
+
+  public GetterNode(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  @Valid
+  public GetterNode getLeft() {
+    return left;
+  }
+
+  public void setLeft(GetterNode left) {
+    this.left = left;
+  }
+
+  @Valid
+  public GetterNode getRight() {
+    return right;
+  }
+
+  public void setRight(GetterNode right) {
+    this.right = right;
+  }
+}
@@ -0,0 +1,39 @@
+package example.avaje;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+
+class ACustomerChangedTest {
+
+  final Validator validator = Validator.builder().build();
+
+  @Test
+  void onlyChangedPropertiesValidated() {
+    var old = new ACustomer("NameIsTooLarge", "Other");
+    var updated = new ACustomer("NameIsTooLarge", "");
+
+    List<ConstraintViolation> violations = new ArrayList<>(validator.checkChanged(old, updated));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).path()).isEqualTo("other");
+  }
+
+  @Test
+  void unchanged() {
+    var old = new ACustomer("NameIsTooLarge", "");
+    var updated = new ACustomer("NameIsTooLarge", "");
+    assertThat(validator.checkChanged(old, updated)).isEmpty();
+  }
+
+  @Test
+  void noOld_validatesAll() {
+    var updated = new ACustomer("NameIsTooLarge", "");
+    assertThat(validator.checkChanged(null, updated)).hasSize(2);
+  }
+}
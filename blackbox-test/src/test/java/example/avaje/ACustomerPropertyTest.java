@@ -0,0 +1,85 @@
+package example.avaje;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import example.avaje.past.APastFutureLocalDate;
+import example.avaje.range.APrimitiveCombined;
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+
+class ACustomerPropertyTest {
+
+  final Validator validator = Validator.builder().build();
+
+  @Test
+  void checkProperty() {
+    var cust = new ACustomer("NameIsTooLarge", "", "x");
+
+    List<ConstraintViolation> violations = new ArrayList<>(validator.checkProperty(cust, "name"));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).path()).isEqualTo("name");
+    assertThat(violations.get(0).message()).isEqualTo("maximum length 5 exceeded");
+
+    assertThat(validator.checkProperty(cust, "other")).hasSize(1);
+    assertThat(validator.checkProperty(cust, "minMax")).hasSize(1);
+  }
+
+  @Test
+  void checkValue() {
+    assertThat(validator.checkValue(ACustomer.class, "name", "Rob")).isEmpty();
+
+    List<ConstraintViolation> violations = new ArrayList<>(validator.checkValue(ACustomer.class, "name", ""));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).path()).isEqualTo("name");
+    assertThat(violations.get(0).message()).isEqualTo("must not be blank");
+  }
+
+  @Test
+  void checkValue_primitive() {
+    assertThat(validator.checkValue(APrimitiveCombined.class, "count", 5)).isEmpty();
+    assertThat(validator.checkValue(APrimitiveCombined.class, "count", 11)).hasSize(1);
+  }
+
+  @Test
+  void checkValue_numberWidened() {
+    // Integer as parsed from a JSON payload for the long property
+    assertThat(validator.checkValue(APrimitiveCombined.class, "code", 5)).isEmpty();
+    assertThat(validator.checkValue(APrimitiveCombined.class, "code", 1000)).hasSize(1);
+    assertThat(validator.checkValue(APrimitiveCombined.class, "price", 2)).isEmpty();
+  }
+
+  @Test
+  void checkValue_nullPrimitive() {
+    List<ConstraintViolation> violations = new ArrayList<>(validator.checkValue(APrimitiveCombined.class, "count", null));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).path()).isEqualTo("count");
+    assertThat(violations.get(0).message()).isEqualTo("must not be null");
+  }
+
+  @Test
+  void checkValue_wrongType() {
+    List<ConstraintViolation> violations = new ArrayList<>(validator.checkValue(APastFutureLocalDate.class, "past", "2020-01-01"));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).message()).isEqualTo("must be of type LocalDate");
+    assertThat(violations.get(0).invalidValue()).isEqualTo("2020-01-01");
+
+    violations = new ArrayList<>(validator.checkValue(APrimitiveCombined.class, "count", 1.5d));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).message()).isEqualTo("must be of type int");
+  }
+
+  @Test
+  void unknownProperty() {
+    var cust = new ACustomer("Rob");
+    assertThatThrownBy(() -> validator.checkProperty(cust, "unknown"))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> validator.checkValue(ACustomer.class, "unknown", "x"))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
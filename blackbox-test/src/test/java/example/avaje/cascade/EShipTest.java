@@ -0,0 +1,59 @@
+package example.avaje.cascade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.Validator;
+import io.avaje.validation.adapter.ValidationAdapter;
+
+class EShipTest {
+
+  Validator validator = Validator.builder().build();
+
+  private static List<EShip.ECargo> cargo(int size) {
+    return IntStream.range(0, size)
+      .mapToObj(i -> new EShip.ECargo(null, i, new EShip.ETag(null)))
+      .toList();
+  }
+
+  @Test
+  void valid() {
+    var ship = new EShip("ship", cargo(1_000), new EShip.ECargo(null, 0, null));
+    assertThat(validator.check(ship)).isEmpty();
+  }
+
+  @Test
+  void validNullCargo() {
+    assertThat(validator.check(new EShip("ship", null, null))).isEmpty();
+  }
+
+  @Test
+  void addedAdapterCalled() {
+    var replaced = Validator.builder()
+      .add(EShip.ECargo.class, ctx -> {
+        var message = ctx.message("replaced", Map.of());
+        return (ValidationAdapter<EShip.ECargo>) (cargo, request, field) -> {
+          request.addViolation(message, field);
+          return false;
+        };
+      })
+      .build();
+
+    var violations = replaced.check(new EShip("ship", null, new EShip.ECargo(null, 0, null)));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.iterator().next().path()).isEqualTo("main");
+  }
+
+  @Test
+  void invalid_onlyShipConstraints() {
+    var ship = new EShip(" ", cargo(10), null);
+    var violations = validator.check(ship);
+    assertThat(violations).hasSize(1);
+    assertThat(violations.iterator().next().path()).isEqualTo("name");
+  }
+}
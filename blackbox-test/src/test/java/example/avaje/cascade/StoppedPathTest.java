@@ -0,0 +1,77 @@
+package example.avaje.cascade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+import io.avaje.validation.adapter.ValidationContext;
+import io.avaje.validation.adapter.ValidationRequest;
+import io.avaje.validation.groups.Default;
+
+class StoppedPathTest {
+
+  /** Stops at the first violation and records the pushed paths. */
+  static final class PathRequest implements ValidationRequest {
+
+    final ArrayDeque<String> paths = new ArrayDeque<>();
+    final Set<ConstraintViolation> violations = new LinkedHashSet<>();
+
+    @Override
+    public List<Class<?>> groups() {
+      return List.of(Default.class);
+    }
+
+    @Override
+    public void addViolation(ValidationContext.Message message, String propertyName) {
+      violations.add(new ConstraintViolation(String.join(".", paths), propertyName, message.template()));
+    }
+
+    @Override
+    public void pushPath(String path) {
+      paths.push(path);
+    }
+
+    @Override
+    public void popPath() {
+      paths.pop();
+    }
+
+    @Override
+    public void throwWithViolations() {
+      // not thrown
+    }
+
+    @Override
+    public Set<ConstraintViolation> violations() {
+      return violations;
+    }
+
+    @Override
+    public boolean hasViolations() {
+      return !violations.isEmpty();
+    }
+
+    @Override
+    public boolean stopped() {
+      return hasViolations();
+    }
+  }
+
+  @Test
+  void pathsPoppedWhenStopped() {
+    var request = new PathRequest();
+    var validator = Validator.builder().requestFactory((locale, groups) -> request).build();
+
+    var ship = new AShip("ship", List.of(new ACrew("ok"), new ACrew("tooLong"), new ACrew("")));
+    assertThat(validator.check(ship)).hasSize(1);
+    assertThat(request.violations.iterator().next().field()).isEqualTo("name");
+    assertThat(request.paths).isEmpty();
+  }
+}
@@ -0,0 +1,58 @@
+package example.avaje.cascade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+
+class VisitedTest {
+
+  @Test
+  void cycleTerminates() {
+    var first = new CyclicNode("first");
+    var second = new CyclicNode("");
+    first.setNext(second);
+    second.setNext(first);
+
+    var violations = Validator.builder().build().check(first);
+    assertThat(violations).extracting(ConstraintViolation::path).containsExactly("next.name");
+  }
+
+  @Test
+  void getterCycleTerminates() {
+    var first = new GetterNode("first");
+    var second = new GetterNode("");
+    first.setLeft(second);
+    second.setRight(first);
+
+    var violations = Validator.builder().build().check(first);
+    assertThat(violations).extracting(ConstraintViolation::path).containsExactly("left.name");
+  }
+
+  @Test
+  void cyclicTypeSharedInstanceReportedOnce() {
+    var shared = new GetterNode("");
+    var root = new GetterNode("root");
+    root.setLeft(shared);
+    root.setRight(shared);
+
+    // no cycle in the graph, but the type is cyclic so the shared node is validated once
+    var violations = Validator.builder().build().check(root);
+    assertThat(violations).extracting(ConstraintViolation::path).containsExactly("left.name");
+  }
+
+  @Test
+  void sharedInstanceValidatedOnce() {
+    var crew = new ACrew("tooLong");
+    var ship = new AShip("ship", List.of(crew, crew, crew));
+
+    assertThat(Validator.builder().build().check(ship)).hasSize(3);
+    assertThat(Validator.builder().trackVisited(true).build().check(ship))
+      .extracting(ConstraintViolation::path)
+      .containsExactly("crew[0].name");
+  }
+}
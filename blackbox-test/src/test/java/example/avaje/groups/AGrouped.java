@@ -0,0 +1,23 @@
+package example.avaje.groups;
+
+import io.avaje.validation.constraints.NotBlank;
+import io.avaje.validation.constraints.NotNull;
+import io.avaje.validation.constraints.Size;
+import io.avaje.validation.groups.Default;
+import jakarta.validation.Valid;
+
+@Valid
+public record AGrouped(
+
+  @NotBlank
+  String name,
+
+  @NotNull(groups = Strict.class)
+  String code,
+
+  @Size(max = 4, groups = {Strict.class, Default.class})
+  String tag
+) {
+
+  public interface Strict {}
+}
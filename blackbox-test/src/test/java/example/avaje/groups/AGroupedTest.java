@@ -0,0 +1,52 @@
+package example.avaje.groups;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+import io.avaje.validation.groups.Default;
+
+class AGroupedTest {
+
+  final Validator validator = Validator.builder().build();
+
+  @Test
+  void defaultGroup_skipsStrictOnlyConstraints() {
+    var value = new AGrouped(" ", null, "tooLong");
+
+    assertThat(paths(validator.check(value))).containsExactlyInAnyOrder("name", "tag");
+    assertThat(paths(validator.check(value, Default.class))).containsExactlyInAnyOrder("name", "tag");
+  }
+
+  @Test
+  void strictGroup() {
+    var value = new AGrouped(" ", null, "tooLong");
+
+    assertThat(paths(validator.check(value, AGrouped.Strict.class))).containsExactlyInAnyOrder("code", "tag");
+  }
+
+  @Test
+  void defaultAndStrictGroups() {
+    var value = new AGrouped(" ", null, "tooLong");
+
+    assertThat(paths(validator.check(value, Default.class, AGrouped.Strict.class)))
+      .containsExactlyInAnyOrder("name", "code", "tag");
+  }
+
+  @Test
+  void valid() {
+    var value = new AGrouped("ok", "c", "ok");
+
+    assertThat(validator.check(value)).isEmpty();
+    assertThat(validator.check(value, AGrouped.Strict.class)).isEmpty();
+  }
+
+  private static Set<String> paths(Set<ConstraintViolation> violations) {
+    return violations.stream().map(ConstraintViolation::path).collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,47 @@
+package example.avaje.nested;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+
+class ANestedMapTest {
+
+  final Validator validator = Validator.builder().build();
+
+  @Test
+  void valid() {
+    var payload = Map.of("firstName", "Rob", "address", Map.of("line1", "a", "longValue", 4));
+    assertThat(validator.checkMap(AContact.class, payload)).isEmpty();
+  }
+
+  @Test
+  void onlyPresentKeysValidated() {
+    // firstName is not present so not validated
+    List<ConstraintViolation> violations = new ArrayList<>(validator.checkMap(AContact.class, Map.of("lastName", "TooLong")));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).path()).isEqualTo("lastName");
+  }
+
+  @Test
+  void nestedMap() {
+    var payload = Map.of("address", Map.of("line1", " ", "longValue", -1));
+    List<ConstraintViolation> violations = new ArrayList<>(validator.checkMap(AContact.class, payload));
+    assertThat(violations).hasSize(2);
+    assertThat(violations).extracting(ConstraintViolation::path)
+      .containsExactlyInAnyOrder("address.line1", "address.longValue");
+  }
+
+  @Test
+  void unknownProperty() {
+    assertThatThrownBy(() -> validator.checkMap(AContact.class, Map.of("unknown", "x")))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+}
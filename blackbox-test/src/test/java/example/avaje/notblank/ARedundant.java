@@ -0,0 +1,14 @@
+package example.avaje.notblank;
+
+import io.avaje.validation.constraints.NotBlank;
+import io.avaje.validation.constraints.NotEmpty;
+import io.avaje.validation.constraints.NotNull;
+import jakarta.validation.Valid;
+
+@Valid
+public record ARedundant(
+  // checked as NotNull then NotBlank, NotEmpty is redundant
+  @NotEmpty @NotBlank @NotNull
+  String name
+) {
+}
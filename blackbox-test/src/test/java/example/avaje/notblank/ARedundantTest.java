@@ -0,0 +1,47 @@
+package example.avaje.notblank;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+
+class ARedundantTest {
+
+  final Validator validator = Validator.builder().build();
+
+  @Test
+  void valid() {
+    assertThat(validator.check(new ARedundant("ok"))).isEmpty();
+  }
+
+  @Test
+  void null_notNullFirst() {
+    var violations = check(new ARedundant(null));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).message()).isEqualTo("must not be null");
+  }
+
+  @Test
+  void empty_notBlank() {
+    var violations = check(new ARedundant(""));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).message()).isEqualTo("must not be blank");
+  }
+
+  @Test
+  void blank_notBlank() {
+    var violations = check(new ARedundant("  "));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).message()).isEqualTo("must not be blank");
+  }
+
+  private List<ConstraintViolation> check(Object any) {
+    return new ArrayList<>(validator.check(any, Locale.ENGLISH));
+  }
+}
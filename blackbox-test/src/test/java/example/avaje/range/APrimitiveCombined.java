@@ -0,0 +1,21 @@
+package example.avaje.range;
+
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import io.avaje.validation.constraints.DecimalMax;
+import io.avaje.validation.constraints.DecimalMin;
+import io.avaje.validation.constraints.Digits;
+import io.avaje.validation.constraints.Max;
+import io.avaje.validation.constraints.Min;
+import io.avaje.validation.constraints.NotNull;
+import io.avaje.validation.constraints.Valid;
+
+@Valid
+public record APrimitiveCombined(
+  @NotNull @Min(1) @Max(10) int count,
+  @Digits(integer = 3, fraction = 0) long code,
+  @DecimalMin("0.5") @DecimalMax(value = "9.5", inclusive = false) double price,
+  @Min(1) OptionalInt quantity,
+  @DecimalMin(value = "2", inclusive = false) OptionalLong total
+) {}
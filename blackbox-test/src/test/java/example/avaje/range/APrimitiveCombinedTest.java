@@ -0,0 +1,38 @@
+package example.avaje.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+
+class APrimitiveCombinedTest {
+
+  final Validator validator = Validator.builder().setDefaultLocale(Locale.ENGLISH).build();
+
+  @Test
+  void valid() {
+    validator.validate(new APrimitiveCombined(1, 999, 0.5d, OptionalInt.of(1), OptionalLong.of(3)));
+    validator.validate(new APrimitiveCombined(10, -999, 9.4d, OptionalInt.empty(), OptionalLong.empty()));
+    validator.validate(new APrimitiveCombined(5, 0, 1d, null, null));
+  }
+
+  @Test
+  void invalid() {
+    var violations = validator.check(new APrimitiveCombined(11, 1000, 9.5d, OptionalInt.of(0), OptionalLong.of(2)));
+    assertThat(violations).extracting(ConstraintViolation::field)
+      .containsExactlyInAnyOrder("count", "code", "price", "quantity", "total");
+  }
+
+  @Test
+  void invalidMinOfCombined() {
+    var violations = validator.check(new APrimitiveCombined(0, 1, 0.4d, OptionalInt.of(1), OptionalLong.of(3)));
+    assertThat(violations).extracting(ConstraintViolation::message)
+      .containsExactlyInAnyOrder("must be greater than or equal to 1", "must be greater than or equal to 0.5");
+  }
+}
@@ -0,0 +1,14 @@
+package example.avaje.range;
+
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import io.avaje.validation.constraints.Min;
+import io.avaje.validation.constraints.NotNull;
+import io.avaje.validation.constraints.Valid;
+
+@Valid
+public record APrimitiveOptionalNotNull(
+  @NotNull @Min(1) OptionalInt quantity,
+  @NotNull OptionalLong total
+) {}
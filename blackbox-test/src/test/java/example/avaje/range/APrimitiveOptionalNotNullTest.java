@@ -0,0 +1,39 @@
+package example.avaje.range;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+
+class APrimitiveOptionalNotNullTest {
+
+  final Validator validator = Validator.builder().setDefaultLocale(Locale.ENGLISH).build();
+
+  @Test
+  void valid() {
+    validator.validate(new APrimitiveOptionalNotNull(OptionalInt.of(1), OptionalLong.of(0)));
+    validator.validate(new APrimitiveOptionalNotNull(OptionalInt.empty(), OptionalLong.empty()));
+  }
+
+  @Test
+  void nullOptional() {
+    var violations = validator.check(new APrimitiveOptionalNotNull(null, null));
+    assertThat(violations).extracting(ConstraintViolation::field)
+      .containsExactlyInAnyOrder("quantity", "total");
+    assertThat(violations).extracting(ConstraintViolation::message)
+      .containsOnly("must not be null");
+  }
+
+  @Test
+  void presentValue() {
+    var violations = validator.check(new APrimitiveOptionalNotNull(OptionalInt.of(0), OptionalLong.of(0)));
+    assertThat(violations).extracting(ConstraintViolation::message)
+      .containsExactly("must be greater than or equal to 1");
+  }
+}
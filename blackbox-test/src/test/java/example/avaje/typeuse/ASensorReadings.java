@@ -0,0 +1,17 @@
+package example.avaje.typeuse;
+
+import io.avaje.validation.constraints.DecimalMax;
+import io.avaje.validation.constraints.Max;
+import io.avaje.validation.constraints.Min;
+import io.avaje.validation.constraints.NotEmpty;
+import io.avaje.validation.constraints.Positive;
+import io.avaje.validation.constraints.Size;
+import io.avaje.validation.constraints.Valid;
+
+@Valid
+public record ASensorReadings(
+  @NotEmpty int @Min(0) @Max(100) [] readings,
+  double @DecimalMax("1.5") [] ratios,
+  @Size(max = 3) long[] ids,
+  Integer @Positive [] counts
+) {}
@@ -0,0 +1,39 @@
+package example.avaje.typeuse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+
+class ASensorReadingsTest {
+
+  final Validator validator = Validator.builder().setDefaultLocale(Locale.ENGLISH).build();
+
+  @Test
+  void valid() {
+    validator.validate(new ASensorReadings(new int[] {0, 50, 100}, new double[] {1.5}, new long[] {1, 2, 3}, new Integer[] {1}));
+    validator.validate(new ASensorReadings(new int[] {1}, null, null, null));
+  }
+
+  @Test
+  void invalidElements() {
+    var violations = validator.check(new ASensorReadings(new int[] {-1, 50, 101}, new double[] {0, 1.6}, new long[0], new Integer[] {1, 0}));
+    assertThat(violations).extracting(ConstraintViolation::message)
+      .containsExactlyInAnyOrder(
+        "must be greater than or equal to 0",
+        "must be less than or equal to 100",
+        "must be less than or equal to 1.5",
+        "must be greater than 0");
+  }
+
+  @Test
+  void invalidArrayLength() {
+    var violations = validator.check(new ASensorReadings(new int[0], null, new long[] {1, 2, 3, 4}, null));
+    assertThat(violations).extracting(ConstraintViolation::path)
+      .containsExactlyInAnyOrder("readings", "ids");
+  }
+}
@@ -37,6 +37,14 @@ class ShipTypeUseTest {
     assertThat(violation.message()).isEqualTo("Tasks cannot be blank");
   }
 
+  @Test
+  void mapPathUsesKey() {
+    var violation = one(new Ship(Map.of("tank", new CrewMate("")), null));
+    assertThat(violation.path()).isEqualTo("crew[tank].assignedTasks");
+    violation = one(new Ship(Map.of("juice", new CrewMate("medbay")), List.of("medbay", "")));
+    assertThat(violation.path()).isEqualTo("tasks[1]");
+  }
+
   ConstraintViolation one(Object any) {
     try {
       validator.validate(any);
@@ -1,11 +1,16 @@
 package io.avaje.validation.generator;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import static io.avaje.validation.generator.APContext.isAssignable;
 
 final class AdapterHelper {
 
+  /** Constraints that check the reference rather than the value. */
+  private static final Set<String> NULL_CHECKS = Set.of("Null", "NotNull", "NonNull");
+
   private final Append writer;
   private final ElementAnnotationContainer elementAnnotations;
   private final String indent;
@@ -15,7 +20,10 @@ final class AdapterHelper {
   private final boolean classLevel;
   private final boolean crossParam;
   private boolean usePrimitiveValidation;
+  private boolean primitiveOptional;
   private String recursiveType;
+  private String cascadeAdapter;
+  private AttributeConstants attributeConstants = AttributeConstants.NONE;
 
   AdapterHelper(Append writer, ElementAnnotationContainer elementAnnotations, String indent) {
     this(writer, elementAnnotations, indent, "Object", null, false, false);
@@ -49,21 +57,31 @@ final class AdapterHelper {
     this.crossParam = crossParam;
   }
 
-  AdapterHelper usePrimitiveValidation(boolean usePrimitiveValidation) {
+  AdapterHelper usePrimitiveValidation(boolean usePrimitiveValidation, boolean primitiveOptional) {
     this.usePrimitiveValidation = usePrimitiveValidation;
+    this.primitiveOptional = primitiveOptional;
+    return this;
+  }
+
+  AdapterHelper attributeConstants(AttributeConstants attributeConstants) {
+    this.attributeConstants = attributeConstants;
     return this;
   }
 
+  private String attributes(String attributes) {
+    return attributeConstants.of(attributes);
+  }
+
   void write() {
     final var typeUse1 = elementAnnotations.typeUse1();
     final var typeUse2 = elementAnnotations.typeUse2();
     final var hasValid = elementAnnotations.hasValid();
-    writeFirst(crossParam ? elementAnnotations.crossParam() : elementAnnotations.annotations());
-    if (crossParam) {
+    if (usePrimitiveValidation) {
+      writePrimitive(elementAnnotations.annotations());
       return;
     }
-    if (usePrimitiveValidation) {
-      writer.eol().append("%s    .primitive()", indent);
+    writeFirst(crossParam ? elementAnnotations.crossParam() : elementAnnotations.annotations());
+    if (crossParam) {
       return;
     }
 
@@ -74,7 +92,7 @@ final class AdapterHelper {
     } else if (isTopTypeIterable()) {
       writer.eol().append("%s    .list()", indent);
       // cascade validate
-      if (hasValid) {
+      if (hasValid && !constraintFree(mainType.param0().mainType())) {
         if (mainType.param0().fullWithoutAnnotations().equals(recursiveType)) {
           // cascade validate
           writer.eol().append("%s    .andThenMulti(this)", indent, mainType.param0().shortType());
@@ -90,19 +108,21 @@ final class AdapterHelper {
       writer.eol().append("%s    .mapValues()", indent);
       writeTypeUse(genericType.param1(), typeUse2, false);
 
+    } else if (!typeUse1.isEmpty() && genericType.mainType().contains("[]")) {
+      writeArrayTypeUse(typeUse1, hasValid);
+
     } else if (hasValid && genericType.mainType().contains("[]")) {
-      writer.eol().append("%s    .array()", indent);
-      if (genericType.mainType().replace("[]", "").equals(recursiveType)) {
-        writer.eol().append("%s    .andThenMulti(this)", indent);
-      } else {
-        writer.eol().append("%s    .andThenMulti(ctx.adapter(%s.class))",
-          indent, mainType.shortWithoutAnnotations().replace("[]", ""));
+      if (!constraintFree(genericType.mainType())) {
+        writer.eol().append("%s    .array()", indent);
+        writeArrayCascade();
       }
 
     } else if (hasValid) {
-      if (!classLevel) {
+      if (!classLevel && !constraintFree(genericType.mainType())) {
         if (genericType.mainType().equals(recursiveType)) {
           writer.eol().append("%s    .andThen(this)", indent);
+        } else if (cascadeAdapter != null) {
+          writer.eol().append("%s    .andThen(%s)", indent, cascadeAdapter);
         } else {
           writer.eol().append("%s    .andThen(ctx.adapter(%s.class))", indent, genericType.shortWithoutAnnotations());
         }
@@ -117,17 +137,96 @@ final class AdapterHelper {
     boolean first = true;
     for (final var a : annotations.entrySet()) {
       if (first) {
-        writer.append("%sctx.<%s>adapter(%s.class, %s)", indent, type, a.getKey().shortWithoutAnnotations(), a.getValue());
+        writer.append("%sctx.<%s>adapter(%s.class, %s)", indent, type, a.getKey().shortWithoutAnnotations(), attributes(a.getValue()));
         first = false;
         continue;
       }
-      writer.eol().append("%s    .andThen(ctx.adapter(%s.class,%s))", indent, a.getKey().shortWithoutAnnotations(), a.getValue());
+      writer.eol().append("%s    .andThen(ctx.adapter(%s.class,%s))", indent, a.getKey().shortWithoutAnnotations(), attributes(a.getValue()));
     }
     if (annotations.isEmpty()) {
       writer.append("%sctx.<%s>noop()", indent, type);
     }
   }
 
+  /** Compose the primitive adapters such that the value is validated without boxing. */
+  private void writePrimitive(Map<UType, String> annotations) {
+    if (primitiveOptional) {
+      writePrimitiveOptional(annotations);
+      return;
+    }
+    writePrimitiveChain(annotations, indent);
+  }
+
+  /**
+   * The null checks of a primitive optional apply to the optional itself, the other constraints
+   * to the present value without boxing.
+   */
+  private void writePrimitiveOptional(Map<UType, String> annotations) {
+    final Map<UType, String> nullChecks = new LinkedHashMap<>();
+    final Map<UType, String> valueChecks = new LinkedHashMap<>();
+    annotations.forEach((k, v) -> (NULL_CHECKS.contains(k.shortWithoutAnnotations()) ? nullChecks : valueChecks).put(k, v));
+    if (nullChecks.isEmpty()) {
+      writePrimitiveChain(valueChecks, indent);
+      writer.eol().append("%s    .optionalAdapter()", indent);
+      return;
+    }
+    writeFirst(nullChecks);
+    if (!valueChecks.isEmpty()) {
+      writer.eol().append("%s    .andThen(", indent).eol();
+      writePrimitiveChain(valueChecks, indent + "      ");
+      writer.eol().append("%s          .optionalAdapter())", indent);
+    }
+  }
+
+  private void writePrimitiveChain(Map<UType, String> annotations, String indent) {
+    boolean first = true;
+    for (final var a : annotations.entrySet()) {
+      if (first) {
+        writer.append("%sctx.<%s>adapter(%s.class, %s).primitive()", indent, type, a.getKey().shortWithoutAnnotations(), attributes(a.getValue()));
+        first = false;
+        continue;
+      }
+      writer.eol().append("%s    .andThen(ctx.adapter(%s.class, %s).primitive())", indent, a.getKey().shortWithoutAnnotations(), attributes(a.getValue()));
+    }
+  }
+
+  /** Validate each array element, primitive arrays are validated without boxing the elements. */
+  private void writeArrayTypeUse(Map<UType, String> typeUse, boolean hasValid) {
+    final var arrayType = genericType.shortWithoutAnnotations();
+    final var elementType = arrayType.substring(0, arrayType.length() - 2);
+    if (PrimitiveUtil.isPrimitiveValidationType(elementType)
+        && elementAnnotations.supportsPrimitiveElementValidation()) {
+      writer.eol().append("%s    .primitiveArray()", indent);
+      for (final var a : typeUse.entrySet()) {
+        writer.eol().append("%s    .andThenMulti(ctx.adapter(%s.class, %s).primitive())", indent, a.getKey().shortWithoutAnnotations(), attributes(a.getValue()));
+      }
+      return;
+    }
+    writer.eol().append("%s    .array()", indent);
+    boolean cascade = hasValid;
+    for (final var a : typeUse.entrySet()) {
+      if (Constants.VALID_ANNOTATIONS.contains(a.getKey().mainType())) {
+        cascade = true;
+        continue;
+      }
+      writer.eol().append("%s    .andThenMulti(ctx.adapter(%s.class,%s))", indent, a.getKey().shortWithoutAnnotations(), attributes(a.getValue()));
+    }
+    if (cascade
+        && !Util.isBasicType(genericType.fullWithoutAnnotations().replace("[]", ""))
+        && !constraintFree(genericType.mainType())) {
+      writeArrayCascade();
+    }
+  }
+
+  private void writeArrayCascade() {
+    if (genericType.mainType().replace("[]", "").equals(recursiveType)) {
+      writer.eol().append("%s    .andThenMulti(this)", indent);
+    } else {
+      writer.eol().append("%s    .andThenMulti(ctx.adapter(%s.class))",
+        indent, mainType.shortWithoutAnnotations().replace("[]", ""));
+    }
+  }
+
   private boolean isMapType(Map<UType, String> typeUse1, Map<UType, String> typeUse2) {
     return (!typeUse1.isEmpty() || !typeUse2.isEmpty())
       && "java.util.Map".equals(genericType.mainType());
@@ -148,21 +247,39 @@ final class AdapterHelper {
         continue;
       }
       final var k = a.getKey().shortType();
-      final var v = a.getValue();
+      final var v = attributes(a.getValue());
       writer.eol().append("%s    .andThenMulti(ctx.adapter(%s.class,%s))", indent, k, v);
     }
 
+    var typeUse = keys ? genericType.param0() : genericType.param1();
     if (!Util.isBasicType(uType.fullWithoutAnnotations())
         && typeUseMap.keySet().stream()
             .map(UType::mainType)
-            .anyMatch(Constants.VALID_ANNOTATIONS::contains)) {
-      var typeUse = keys ? genericType.param0() : genericType.param1();
+            .anyMatch(Constants.VALID_ANNOTATIONS::contains)
+        && !constraintFree(typeUse.mainType())) {
       writer
           .eol()
           .append("%s    .andThenMulti(ctx.adapter(%s.class))", indent, typeUse.shortWithoutAnnotations());
     }
   }
 
+  /**
+   * Return true if the cascaded type never produces a violation such that the cascade (and the
+   * iteration of container elements) can be skipped. Only with the skipConstraintFree option, as
+   * an adapter added for the type when the validator is built is then never called. Recursive
+   * types are always cascaded.
+   */
+  private boolean constraintFree(String cascadeType) {
+    return ProcessingContext.skipConstraintFree()
+      && !cascadeType.replace("[]", "").equals(recursiveType)
+      && ConstraintFreeTypes.isConstraintFree(cascadeType);
+  }
+
+  /** Cascade using the given adapter field rather than looking up the adapter. */
+  void cascadeAdapter(String cascadeAdapter) {
+    this.cascadeAdapter = cascadeAdapter;
+  }
+
   void withEnclosingType(UType recursive) {
     this.recursiveType = recursive.fullWithoutAnnotations();
   }
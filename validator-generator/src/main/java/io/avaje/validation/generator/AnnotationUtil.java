@@ -5,6 +5,10 @@ import static io.avaje.validation.generator.APContext.logError;
 import static io.avaje.validation.generator.ElementAnnotationContainer.hasMetaConstraintAnnotation;
 import static io.avaje.validation.generator.ProcessorUtils.trimAnnotations;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Period;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -12,6 +16,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.AnnotationValue;
@@ -25,7 +30,7 @@ import javax.lang.model.util.ElementFilter;
 final class AnnotationUtil {
 
   interface Handler {
-    String attributes(AnnotationMirror annotationMirror, Element element, Element target);
+    String attributes(AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType);
 
   }
 
@@ -72,7 +77,7 @@ final class AnnotationUtil {
   private static final String[] NUMBER_TYPE_ONLY_ANNOTATIONS = {"Max", "Min", "Positive", "PositiveOrZero", "Negative", "NegativeOrZero"};
   private static final String[] BOOLEAN_TYPE_ONLY_ANNOTATIONS = {"AssertTrue", "AssertFalse"};
   private static final String[] STRING_TYPE_ONLY_ANNOTATIONS = {"NotBlank","Email"};
-  private static final String[] TEMPORAL_ONLY_ANNOTATIONS = {"Past", "PastOrPresent", "Future", "FutureOrPresent", "DateRange"};
+  private static final String[] TEMPORAL_ONLY_ANNOTATIONS = {"Past", "PastOrPresent", "Future", "FutureOrPresent"};
 
   private static final Handler defaultHandler = new StandardHandler();
 
@@ -100,6 +105,7 @@ final class AnnotationUtil {
     for (final String key : TEMPORAL_ONLY_ANNOTATIONS) {
       register(temporalHandler, key);
     }
+    register(new DateRangeHandler(new TemporalMeta()), "DateRange");
 
     final var stringOnlyHandler = new TypeCheckingHandler(new HandlerMeta(Set.of("String", "CharSequence"), "non-string", true));
     for (final String key : STRING_TYPE_ONLY_ANNOTATIONS) {
@@ -152,8 +158,10 @@ final class AnnotationUtil {
     if (isAssignable(rawType, "java.util.Date")) {
       return "Temporal.Date";
     }
-    if (rawType.contains("[]")) {
-      return "Array";
+    if (rawType.endsWith("[]")) {
+      // the component type such that the adapter reads the length without type checks
+      final String component = rawType.substring(0, rawType.length() - 2);
+      return PrimitiveUtil.isPrimitive(component) ? "Array." + component : "Array.Object";
     }
     return null;
   }
@@ -161,10 +169,18 @@ final class AnnotationUtil {
   private AnnotationUtil() {}
 
   static String annotationAttributeMap(AnnotationMirror annotationMirror, Element target) {
+    return annotationAttributeMap(annotationMirror, target, target.asType());
+  }
+
+  /**
+   * Return the attribute map for a constraint that applies to the given type rather than the
+   * type of the target element (e.g. the element type of a type-use constraint).
+   */
+  static String annotationAttributeMap(AnnotationMirror annotationMirror, Element target, TypeMirror targetType) {
     final Element element = annotationMirror.getAnnotationType().asElement();
     final Handler handler = handlers.get(element.toString());
     return Objects.requireNonNullElse(handler, defaultHandler)
-        .attributes(annotationMirror, element, target);
+        .attributes(annotationMirror, element, target, targetType);
   }
 
   static String[] splitString(String input, String delimiter) {
@@ -229,23 +245,52 @@ final class AnnotationUtil {
   }
 
   /** Convert default Jakarta message keys to avaje keys */
-  private static String avajeKey(String messageKey) {
+  static String avajeKey(String messageKey) {
     return messageKey.replace("{jakarta.validation.constraints.", "{avaje.");
   }
 
   static class PatternHandler extends BaseHandler {
 
     @Override
-    public String attributes(AnnotationMirror annotationMirror, Element element, Element target) {
-      return new PatternHandler().writeAttributes(annotationMirror);
+    public String attributes(AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
+      return new PatternHandler().writeAttributes(annotationMirror, target);
     }
 
-    String writeAttributes(AnnotationMirror annotationMirror) {
+    String writeAttributes(AnnotationMirror annotationMirror, Element target) {
       final var patternOp = PatternPrism.isInstance(annotationMirror);
-      patternOp.ifPresent(p -> pattern(sb, p));
+      patternOp.ifPresent(p -> {
+        validateRegex(p, target);
+        pattern(sb, p);
+      });
       return sb.toString();
     }
 
+    /** Compile the regular expression such that an invalid one fails the build. */
+    private static void validateRegex(PatternPrism prism, Element target) {
+      int flags = 0;
+      for (final String flag : prism.flags()) {
+        flags |= regexFlag(flag.substring(flag.lastIndexOf('.') + 1));
+      }
+      try {
+        Pattern.compile(prism.regexp(), flags);
+      } catch (final PatternSyntaxException e) {
+        logError(target, "Invalid regular expression for %s: %s", target, e.getMessage());
+      }
+    }
+
+    private static int regexFlag(String flag) {
+      return switch (flag) {
+        case "UNIX_LINES" -> Pattern.UNIX_LINES;
+        case "CASE_INSENSITIVE" -> Pattern.CASE_INSENSITIVE;
+        case "COMMENTS" -> Pattern.COMMENTS;
+        case "MULTILINE" -> Pattern.MULTILINE;
+        case "DOTALL" -> Pattern.DOTALL;
+        case "UNICODE_CASE" -> Pattern.UNICODE_CASE;
+        case "CANON_EQ" -> Pattern.CANON_EQ;
+        default -> 0;
+      };
+    }
+
     private static void pattern(StringBuilder sb, PatternPrism prism) {
       sb.append("\"regexp\",\"").append(prism.regexp()).append("\"");
       if (prism.message() != null) {
@@ -278,16 +323,16 @@ final class AnnotationUtil {
       this._type = null;
     }
 
-    StandardHandler(AnnotationMirror annotationMirror, Element element, Element target) {
+    StandardHandler(AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
       this.annotationMirror = annotationMirror;
       this.element = element;
       this.target = target;
-      this._type = lookupType(target.asType());
+      this._type = lookupType(targetType);
     }
 
     @Override
-    public String attributes(AnnotationMirror annotationMirror, Element element, Element target) {
-      return new StandardHandler(annotationMirror, element, target).writeAttributes();
+    public String attributes(AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
+      return new StandardHandler(annotationMirror, element, target, targetType).writeAttributes();
     }
 
     String writeAttributes() {
@@ -387,20 +432,20 @@ final class AnnotationUtil {
 
   /** Adds validation that the type this constraint is applied to is a numeric type */
   static class TypeCheckingHandler extends CommonHandler {
-    private final SupportedMeta meta;
+    final SupportedMeta meta;
 
     TypeCheckingHandler(SupportedMeta meta) {
       this.meta = meta;
     }
 
-    TypeCheckingHandler(SupportedMeta meta, AnnotationMirror annotationMirror, Element element, Element target) {
-      super(annotationMirror, element, target);
+    TypeCheckingHandler(SupportedMeta meta, AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
+      super(annotationMirror, element, target, targetType);
       this.meta = meta;
     }
 
     @Override
-    public String attributes(AnnotationMirror annotationMirror, Element element, Element target) {
-      return new TypeCheckingHandler(meta, annotationMirror, element, target).writeAttributes();
+    public String attributes(AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
+      return new TypeCheckingHandler(meta, annotationMirror, element, target, targetType).writeAttributes();
     }
 
     @Override
@@ -416,13 +461,13 @@ final class AnnotationUtil {
     /** Prototype factory only */
     CommonHandler() {}
 
-    CommonHandler(AnnotationMirror annotationMirror, Element element, Element target) {
-      super(annotationMirror, element, target);
+    CommonHandler(AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
+      super(annotationMirror, element, target, targetType);
     }
 
     @Override
-    public String attributes(AnnotationMirror annotationMirror, Element element, Element target) {
-      return new CommonHandler(annotationMirror, element, target).writeAttributes();
+    public String attributes(AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
+      return new CommonHandler(annotationMirror, element, target, targetType).writeAttributes();
     }
 
     @Override
@@ -452,12 +497,36 @@ final class AnnotationUtil {
     DecimalHandler() {}
 
     @Override
-    public String attributes(AnnotationMirror annotationMirror, Element element, Element target) {
-      return new DecimalHandler(annotationMirror, element, target).writeAttributes();
+    public String attributes(AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
+      return new DecimalHandler(annotationMirror, element, target, targetType).writeAttributes();
+    }
+
+    DecimalHandler(AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
+      super(annotationMirror, element, target, targetType);
+    }
+
+    /** Write the value as a BigDecimal such that the adapter does not parse it at runtime. */
+    @Override
+    void writeAttribute(Name simpleName, AnnotationValue value, AnnotationValue defaultValue) {
+      if (value == null || !"value".contentEquals(simpleName)) {
+        super.writeAttribute(simpleName, value, defaultValue);
+        return;
+      }
+      final String decimal = value.getValue().toString();
+      writeAttributeKey("value");
+      try {
+        sb.append(bigDecimal(new BigDecimal(decimal.trim()), decimal));
+      } catch (final NumberFormatException e) {
+        logError(target, "Invalid decimal value \"%s\" for %s", decimal, target);
+        sb.append(value);
+      }
     }
 
-    DecimalHandler(AnnotationMirror annotationMirror, Element element, Element target) {
-      super(annotationMirror, element, target);
+    private static String bigDecimal(BigDecimal decimal, String literal) {
+      if (decimal.toString().equals(literal) && decimal.unscaledValue().bitLength() < 64) {
+        return "java.math.BigDecimal.valueOf(" + decimal.unscaledValue() + "L, " + decimal.scale() + ")";
+      }
+      return "new java.math.BigDecimal(\"" + decimal + "\")";
     }
 
     @Override
@@ -471,4 +540,55 @@ final class AnnotationUtil {
       return messageKey;
     }
   }
+
+  /** Writes the min and max as a Period or Duration such that the adapter does not parse them at runtime. */
+  static final class DateRangeHandler extends TypeCheckingHandler {
+
+    /** Prototype factory only */
+    DateRangeHandler(SupportedMeta meta) {
+      super(meta);
+    }
+
+    DateRangeHandler(SupportedMeta meta, AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
+      super(meta, annotationMirror, element, target, targetType);
+    }
+
+    @Override
+    public String attributes(AnnotationMirror annotationMirror, Element element, Element target, TypeMirror targetType) {
+      return new DateRangeHandler(meta, annotationMirror, element, target, targetType).writeAttributes();
+    }
+
+    @Override
+    void writeAttribute(Name simpleName, AnnotationValue value, AnnotationValue defaultValue) {
+      final String name = simpleName.toString();
+      if (value == null || !("min".equals(name) || "max".equals(name))) {
+        super.writeAttribute(simpleName, value, defaultValue);
+        return;
+      }
+      final String amount = value.getValue().toString();
+      writeAttributeKey(name);
+      if (amount.isEmpty() || "now".equals(amount)) {
+        // now depends on the tolerance of the validator
+        sb.append(value);
+      } else {
+        sb.append(temporalAmount(amount));
+      }
+    }
+
+    private String temporalAmount(String amount) {
+      try {
+        final Period period = Period.parse(amount);
+        return "java.time.Period.of(" + period.getYears() + ", " + period.getMonths() + ", " + period.getDays() + ")";
+      } catch (final DateTimeParseException e) {
+        // not a period, try a duration
+      }
+      try {
+        final Duration duration = Duration.parse(amount);
+        return "java.time.Duration.ofSeconds(" + duration.getSeconds() + "L, " + duration.getNano() + ")";
+      } catch (final DateTimeParseException e) {
+        logError(target, "Invalid period or duration \"%s\" for %s", amount, target);
+        return "\"" + amount + "\"";
+      }
+    }
+  }
 }
@@ -0,0 +1,39 @@
+package io.avaje.validation.generator;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The constraint attribute maps of a generated adapter, where identical attribute maps are written
+ * once as a static constant and shared by the adapters that use them.
+ */
+final class AttributeConstants {
+
+  /** No pooling, the attribute maps are written inline. */
+  static final AttributeConstants NONE = new AttributeConstants();
+
+  private final Map<String, Integer> counts = new HashMap<>();
+  private final Map<String, String> constants = new LinkedHashMap<>();
+
+  /** Register a use of the attribute map. */
+  void add(String attributes) {
+    if (counts.merge(attributes, 1, Integer::sum) == 2) {
+      constants.put(attributes, "ATTRIBUTES_" + (constants.size() + 1));
+    }
+  }
+
+  /** Return the constant for attribute maps used more than once, otherwise the map itself. */
+  String of(String attributes) {
+    return constants.getOrDefault(attributes, attributes);
+  }
+
+  void writeFields(Append writer) {
+    for (final var entry : constants.entrySet()) {
+      writer.append("  private static final Map<String, Object> %s = %s;", entry.getValue(), entry.getKey()).eol();
+    }
+    if (!constants.isEmpty()) {
+      writer.eol();
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package io.avaje.validation.generator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Detects types that can reach themselves by following cascaded (@Valid) properties.
+ *
+ * <p>The cascaded properties are the fields and the getters (including record accessors) of the
+ * type, its super types and its mix-in. A cascade to an interface, an abstract type, a class that
+ * is not final or a type parameter is treated as possibly cyclic, as the validated instance may be
+ * of a type that is not known here.
+ */
+final class CascadeCycles {
+
+  private CascadeCycles() {}
+
+  /** Return true if the type participates in a cascade cycle, or possibly does. */
+  static boolean inCycle(TypeElement type) {
+    final String target = type.getQualifiedName().toString();
+    final Set<String> visited = new HashSet<>();
+    final var pending = new ArrayDeque<TypeElement>();
+    pending.add(type);
+    while (!pending.isEmpty()) {
+      for (final TypeElement cascade : cascadeTypes(pending.pop())) {
+        final String name = cascade.getQualifiedName().toString();
+        if (name.equals(target) || open(cascade)) {
+          return true;
+        }
+        if (visited.add(name)) {
+          pending.add(cascade);
+        }
+      }
+    }
+    return false;
+  }
+
+  /** Return true if instances of subtypes of the type may be cascaded to. */
+  private static boolean open(TypeElement type) {
+    final ElementKind kind = type.getKind();
+    return kind == ElementKind.INTERFACE
+        || (kind == ElementKind.CLASS && !type.getModifiers().contains(Modifier.FINAL));
+  }
+
+  private static List<TypeElement> cascadeTypes(TypeElement type) {
+    final List<TypeElement> result = new ArrayList<>();
+    final TypeElement mixIn = ProcessingContext.mixIn(type.getQualifiedName().toString());
+    if (mixIn != null) {
+      addMembers(mixIn, result);
+    }
+    TypeElement current = type;
+    while (current != null && !current.getQualifiedName().toString().startsWith("java.")) {
+      addMembers(current, result);
+      current = superType(current);
+    }
+    return result;
+  }
+
+  /** Add the cascades of the fields and getters the adapter reads as properties. */
+  private static void addMembers(TypeElement type, List<TypeElement> result) {
+    for (final Element member : type.getEnclosedElements()) {
+      if (member.getModifiers().contains(Modifier.STATIC)) {
+        continue;
+      }
+      if (member instanceof final VariableElement field && member.getKind() == ElementKind.FIELD) {
+        addCascade(field.asType(), ValidPrism.isPresent(field), result);
+      } else if (member instanceof final ExecutableElement method
+          && member.getKind() == ElementKind.METHOD
+          && method.getParameters().isEmpty()) {
+        addCascade(method.getReturnType(), ValidPrism.isPresent(method), result);
+      }
+    }
+  }
+
+  private static void addCascade(TypeMirror type, boolean valid, List<TypeElement> result) {
+    final boolean cascade =
+        valid || type.getAnnotationMirrors().stream().anyMatch(ValidPrism::isInstance);
+    if (type instanceof final ArrayType arrayType) {
+      addCascade(arrayType.getComponentType(), cascade, result);
+    } else if (type.getKind() == TypeKind.TYPEVAR) {
+      if (cascade) {
+        // the bound, typically Object, is open
+        result.add((TypeElement) APContext.types().asElement(APContext.types().erasure(type)));
+      }
+    } else if (type instanceof final DeclaredType declaredType
+        && declaredType.asElement() instanceof final TypeElement element) {
+      if (!element.getQualifiedName().toString().startsWith("java.")) {
+        if (cascade && element.getKind() != ElementKind.ENUM) {
+          result.add(element);
+        }
+        return;
+      }
+      // @Valid on a container type cascades to the elements
+      for (final TypeMirror typeArgument : declaredType.getTypeArguments()) {
+        addCascade(typeArgument, cascade, result);
+      }
+    }
+  }
+
+  private static TypeElement superType(TypeElement type) {
+    final TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() == TypeKind.DECLARED) {
+      return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+    return null;
+  }
+}
@@ -1,18 +1,38 @@
 package io.avaje.validation.generator;
 
+import static io.avaje.validation.generator.APContext.logNote;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.ToIntFunction;
 
 import javax.lang.model.element.TypeElement;
 
 final class ClassReader implements BeanReader {
 
+  /**
+   * Estimated bytecode size above which a validation method is split into multiple methods,
+   * HotSpot does not JIT compile methods larger than 8000 bytes (HugeMethodLimit). The margin
+   * covers the method prologue and epilogue and the wide instructions of methods with more than
+   * 255 local variables, see FieldReader.estimatedValidateSize().
+   */
+  private static final int HUGE_METHOD_LIMIT = 7000;
+
+  /**
+   * Maximum estimated bytecode size of each method the validation is split into, a quarter
+   * of the limit such that a chunk stays below it even when the estimates are far off. The split
+   * is checked against the compiled size by ValidatorProcessorTest.
+   */
+  private static final int CHUNK_SIZE = 2000;
+
   private final TypeElement beanType;
   private final String shortName;
   private final String type;
   private final List<FieldReader> allFields;
   private final Set<String> importTypes = new TreeSet<>();
+  private final AttributeConstants attributeConstants = new AttributeConstants();
   private final TypeReader typeReader;
   private final boolean nonAccessibleField;
 
@@ -28,10 +48,15 @@ final class ClassReader implements BeanReader {
     typeReader.process();
     this.nonAccessibleField = typeReader.nonAccessibleField();
     this.allFields = typeReader.allFields();
+    for (final FieldReader field : allFields) {
+      field.addAttributes(attributeConstants);
+    }
     importTypes.add("java.util.List");
     importTypes.add("java.util.Set");
     importTypes.add("java.util.Map");
+    importTypes.add("java.util.Objects");
 
+    importTypes.add("io.avaje.validation.adapter.PropertyValues");
     importTypes.add("io.avaje.validation.adapter.ValidationAdapter");
     importTypes.add("io.avaje.validation.adapter.ValidationContext");
     importTypes.add("io.avaje.validation.adapter.ValidationRequest");
@@ -84,6 +109,9 @@ final class ClassReader implements BeanReader {
     for (final FieldReader allField : allFields) {
       allField.addImports(importTypes);
     }
+    if (allFields.stream().anyMatch(FieldReader::hasInlineConstraints)) {
+      importTypes.add("io.avaje.validation.groups.Default");
+    }
     return importTypes;
   }
 
@@ -106,7 +134,7 @@ final class ClassReader implements BeanReader {
 
   @Override
   public void writeFields(Append writer) {
-
+    attributeConstants.writeFields(writer);
     for (final FieldReader allField : allFields) {
       allField.writeField(writer);
     }
@@ -116,25 +144,241 @@ final class ClassReader implements BeanReader {
   @Override
   public void writeConstructor(Append writer) {
     for (final FieldReader allField : allFields) {
-      allField.writeConstructor(writer);
+      allField.writeConstructor(writer, attributeConstants);
     }
   }
 
   @Override
   public void writeValidatorMethod(Append writer) {
+    final boolean specialized = defaultGroupSpecialized();
     writer.eol();
     writer.append("  @Override").eol();
     writer.append("  public boolean validate(%s value, ValidationRequest request, String field) {", shortName).eol();
+    if (specialized) {
+      writer.append("    if (request.defaultGroupOnly()) {").eol();
+      writer.append("      return validateDefaultGroup(value, request, field);").eol();
+      writer.append("    }").eol();
+    }
+    writeValidateBody(writer, false);
+    if (specialized) {
+      writer.eol();
+      writer.append("  private boolean validateDefaultGroup(%s value, ValidationRequest request, String field) {", shortName).eol();
+      writeValidateBody(writer, true);
+    }
+    writeValidateChangedMethod(writer);
+    writeValidatePropertyMethod(writer);
+    writeValidateValueMethod(writer);
+  }
+
+  /**
+   * Return true if validating the Default group only skips work, that is there are properties with
+   * constraints for other groups only or with constraints checked inline.
+   */
+  private boolean defaultGroupSpecialized() {
+    return allFields.stream().anyMatch(f -> !f.defaultGroup() || f.hasInlineConstraints());
+  }
+
+  private void writeValidateBody(Append writer, boolean defaultGroupOnly) {
+    final List<FieldReader> fields =
+      allFields.stream().filter(f -> !defaultGroupOnly || f.defaultGroup()).toList();
+    final boolean inline = !defaultGroupOnly && fields.stream().anyMatch(FieldReader::hasInlineConstraints);
+    final List<List<FieldReader>> chunks = split(fields, FieldReader::estimatedValidateSize, "validate");
+    // validate each instance once per request, always tracked for types in a cascade cycle
+    writer.append("    if (!request.visit(value, %s)) {", CascadeCycles.inCycle(beanType)).eol();
+    writer.append("      return true;").eol();
+    writer.append("    }").eol();
     writer.append("    if (field != null) {").eol();
     writer.append("      request.pushPath(field);").eol();
     writer.append("    }").eol();
-    for (final FieldReader allField : allFields) {
-      allField.writeValidate(writer);
+    if (inline) {
+      // inline constraint checks are for the default group only
+      writer.append("    final boolean _$defaultGroup = request.groups().contains(Default.class);").eol();
+    }
+    // single exit such that the path is popped when the request is stopped
+    final String chunkMethod = defaultGroupOnly ? "validateDefaultGroupFields" : "validateFields";
+    if (chunks.isEmpty()) {
+      writer.append("    _$fields: {").eol();
+      for (final FieldReader field : fields) {
+        field.writeValidate(writer, defaultGroupOnly, "break _$fields;");
+      }
+      writer.append("    }").eol();
+    } else {
+      writer.append("    final boolean _$result =");
+      for (int i = 1; i <= chunks.size(); i++) {
+        writer.eol().append("      %s%s%s(value, request, field%s)", i == 1 ? "" : "&& ", chunkMethod, i, inline ? ", _$defaultGroup" : "");
+      }
+      writer.append(";").eol();
     }
     writer.append("    if (field != null) {").eol();
     writer.append("      request.popPath();").eol();
     writer.append("    }").eol();
-    writer.append("    return true;", shortName).eol();
+    writer.append("    return %s;", chunks.isEmpty() ? "!request.stopped()" : "_$result").eol();
     writer.append("  }").eol();
+
+    // methods small enough to be JIT compiled, return false when the request is stopped
+    for (int i = 1; i <= chunks.size(); i++) {
+      writer.eol();
+      writer.append("  private boolean %s%s(%s value, ValidationRequest request, String field%s) {",
+        chunkMethod, i, shortName, inline ? ", boolean _$defaultGroup" : "").eol();
+      for (final FieldReader field : chunks.get(i - 1)) {
+        field.writeValidate(writer, defaultGroupOnly, "return false;");
+      }
+      writer.append("    return true;").eol();
+      writer.append("  }").eol();
+    }
+  }
+
+  /**
+   * Return the fields split into chunks when the estimated bytecode size of the method is above the
+   * limit, otherwise an empty list.
+   */
+  private List<List<FieldReader>> split(List<FieldReader> fields, ToIntFunction<FieldReader> size, String method) {
+    final int estimatedSize = fields.stream().mapToInt(size).sum();
+    if (estimatedSize <= HUGE_METHOD_LIMIT) {
+      return List.of();
+    }
+    final List<List<FieldReader>> chunks = chunks(fields, size);
+    logNote(beanType, "Split %s of %s into %s methods, estimated bytecode size %s bytes", method, shortName, chunks.size(), estimatedSize);
+    return chunks;
+  }
+
+  /** Split the fields into chunks with an estimated bytecode size of at most CHUNK_SIZE. */
+  private static List<List<FieldReader>> chunks(List<FieldReader> fields, ToIntFunction<FieldReader> size) {
+    final List<List<FieldReader>> chunks = new ArrayList<>();
+    List<FieldReader> chunk = new ArrayList<>();
+    int chunkSize = 0;
+    for (final FieldReader field : fields) {
+      final int fieldSize = size.applyAsInt(field);
+      if (!chunk.isEmpty() && chunkSize + fieldSize > CHUNK_SIZE) {
+        chunks.add(chunk);
+        chunk = new ArrayList<>();
+        chunkSize = 0;
+      }
+      chunk.add(field);
+      chunkSize += fieldSize;
+    }
+    if (!chunk.isEmpty()) {
+      chunks.add(chunk);
+    }
+    return chunks;
+  }
+
+  private void writeValidateChangedMethod(Append writer) {
+    final List<List<FieldReader>> chunks = split(allFields, FieldReader::estimatedValidateChangedSize, "validateChanged");
+    writer.eol();
+    writer.append("  @Override").eol();
+    writer.append("  public boolean validateChanged(%s old, %s value, ValidationRequest request) {", shortName, shortName).eol();
+    writer.append("    if (old == null) {").eol();
+    writer.append("      return validate(value, request, null);").eol();
+    writer.append("    }").eol();
+    if (chunks.isEmpty()) {
+      for (final FieldReader allField : allFields) {
+        allField.writeValidateChanged(writer);
+      }
+    } else {
+      for (int i = 1; i <= chunks.size(); i++) {
+        writer.append("    validateChangedFields%s(old, value, request);", i).eol();
+      }
+    }
+    writer.append("    return true;").eol();
+    writer.append("  }").eol();
+
+    for (int i = 1; i <= chunks.size(); i++) {
+      writer.eol();
+      writer.append("  private void validateChangedFields%s(%s old, %s value, ValidationRequest request) {", i, shortName, shortName).eol();
+      for (final FieldReader field : chunks.get(i - 1)) {
+        field.writeValidateChanged(writer);
+      }
+      writer.append("  }").eol();
+    }
+  }
+
+  private List<FieldReader> propertyFields() {
+    return allFields.stream().filter(f -> !f.isClassLvl()).toList();
+  }
+
+  private void writeValidatePropertyMethod(Append writer) {
+    final var properties = propertyFields();
+    final List<List<FieldReader>> chunks = split(properties, FieldReader::estimatedValidatePropertySize, "validateProperty");
+    writer.eol();
+    writer.append("  @Override").eol();
+    writer.append("  public boolean validateProperty(%s value, String property, ValidationRequest request) {", shortName).eol();
+    if (properties.isEmpty()) {
+      writer.append("    throw new IllegalArgumentException(\"Unknown property \" + property);").eol();
+    } else if (chunks.isEmpty()) {
+      writer.append("    return switch (property) {").eol();
+      for (final FieldReader field : properties) {
+        field.writeValidateProperty(writer);
+      }
+      writer.append("      default -> throw new IllegalArgumentException(\"Unknown property \" + property);").eol();
+      writer.append("    };").eol();
+    } else {
+      writeChunkDispatch(writer, "validatePropertyFields", "value, property, request", chunks.size());
+    }
+    writer.append("  }").eol();
+
+    for (int i = 1; i <= chunks.size(); i++) {
+      writer.eol();
+      writer.append("  private Boolean validatePropertyFields%s(%s value, String property, ValidationRequest request) {", i, shortName).eol();
+      writer.append("    return switch (property) {").eol();
+      for (final FieldReader field : chunks.get(i - 1)) {
+        field.writeValidateProperty(writer);
+      }
+      writer.append("      default -> null;").eol();
+      writer.append("    };").eol();
+      writer.append("  }").eol();
+    }
+  }
+
+  private void writeValidateValueMethod(Append writer) {
+    final var properties = propertyFields();
+    final List<List<FieldReader>> chunks = split(properties, FieldReader::estimatedValidateValueSize, "validateValue");
+    writer.eol();
+    writer.append("  @Override").eol();
+    writer.append("  @SuppressWarnings(\"unchecked\")").eol();
+    writer.append("  public boolean validateValue(Object propertyValue, String property, ValidationRequest request) {").eol();
+    if (properties.isEmpty()) {
+      writer.append("    throw new IllegalArgumentException(\"Unknown property \" + property);").eol();
+    } else if (chunks.isEmpty()) {
+      writer.append("    return switch (property) {").eol();
+      for (final FieldReader field : properties) {
+        field.writeValidateValue(writer);
+      }
+      writer.append("      default -> throw new IllegalArgumentException(\"Unknown property \" + property);").eol();
+      writer.append("    };").eol();
+    } else {
+      writeChunkDispatch(writer, "validateValueFields", "propertyValue, property, request", chunks.size());
+    }
+    writer.append("  }").eol();
+
+    for (int i = 1; i <= chunks.size(); i++) {
+      writer.eol();
+      writer.append("  @SuppressWarnings(\"unchecked\")").eol();
+      writer.append("  private Boolean validateValueFields%s(Object propertyValue, String property, ValidationRequest request) {", i).eol();
+      writer.append("    return switch (property) {").eol();
+      for (final FieldReader field : chunks.get(i - 1)) {
+        field.writeValidateValue(writer);
+      }
+      writer.append("      default -> null;").eol();
+      writer.append("    };").eol();
+      writer.append("  }").eol();
+    }
+  }
+
+  /**
+   * Call the chunk methods in turn until one of them has the property, the chunk methods return
+   * null for properties they don't have.
+   */
+  private static void writeChunkDispatch(Append writer, String chunkMethod, String arguments, int chunkCount) {
+    writer.append("    Boolean _$valid = %s1(%s);", chunkMethod, arguments).eol();
+    for (int i = 2; i <= chunkCount; i++) {
+      writer.append("    if (_$valid == null) {").eol();
+      writer.append("      _$valid = %s%s(%s);", chunkMethod, i, arguments).eol();
+      writer.append("    }").eol();
+    }
+    writer.append("    if (_$valid == null) {").eol();
+    writer.append("      throw new IllegalArgumentException(\"Unknown property \" + property);").eol();
+    writer.append("    }").eol();
+    writer.append("    return _$valid;").eol();
   }
 }
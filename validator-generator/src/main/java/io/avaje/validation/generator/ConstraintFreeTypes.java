@@ -0,0 +1,147 @@
+package io.avaje.validation.generator;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+/**
+ * Detects cascaded types that can never produce a constraint violation, such that the cascade to
+ * them does not need to be generated. Used with the {@code avaje.validation.skipConstraintFree}
+ * processor option only, as adapters added with {@code Validator.Builder.add(...)} or an
+ * AdapterFactory take precedence over the generated adapters and would never be called.
+ *
+ * <p>A type is constraint free when it is a {@code @Valid} class or record without type
+ * parameters that this processor generates the adapter for and that has no {@code @MixIn}, it and
+ * its super types declare no constraints (class level, fields, type-use or methods), no property
+ * is implicitly non-null via {@code @NullMarked}, and every type it cascades to is also constraint
+ * free. Types of other modules are always cascaded, their adapters may add constraints via a
+ * mix-in.
+ */
+final class ConstraintFreeTypes {
+
+  private ConstraintFreeTypes() {}
+
+  /** Return true if the given type never produces a constraint violation. */
+  static boolean isConstraintFree(String type) {
+    final TypeElement element = APContext.typeElement(type.replace("[]", ""));
+    return element != null && isConstraintFree(element, new HashSet<>());
+  }
+
+  private static boolean isConstraintFree(TypeElement type, Set<String> visiting) {
+    final String name = type.getQualifiedName().toString();
+    final Map<String, Boolean> known = ProcessingContext.constraintFreeTypes();
+    final Boolean free = known.get(name);
+    if (free != null) {
+      return free;
+    }
+    final boolean root = visiting.isEmpty();
+    if (!visiting.add(name)) {
+      // part of a cascade cycle, free unless another member has constraints
+      return true;
+    }
+    final boolean result = analyse(type, name, visiting);
+    if (root || !result) {
+      // a constraint free result below the root may rely on a cycle member not yet analysed
+      known.put(name, result);
+    }
+    return result;
+  }
+
+  private static boolean analyse(TypeElement type, String name, Set<String> visiting) {
+    final ElementKind kind = type.getKind();
+    if ((kind != ElementKind.CLASS && kind != ElementKind.RECORD)
+        || type.getModifiers().contains(Modifier.ABSTRACT)
+        || !type.getTypeParameters().isEmpty()
+        || !Util.isValid(type)
+        || !ProcessingContext.isAdapterType(name)
+        || ProcessingContext.hasMixIn(name)) {
+      return false;
+    }
+    TypeElement current = type;
+    while (current != null && !current.getQualifiedName().toString().startsWith("java.")) {
+      if (current != type && !current.getTypeParameters().isEmpty()) {
+        return false;
+      }
+      if (hasConstraint(current.getAnnotationMirrors())) {
+        return false;
+      }
+      for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        if (!field.getModifiers().contains(Modifier.STATIC) && !fieldConstraintFree(field, visiting)) {
+          return false;
+        }
+      }
+      for (final ExecutableElement method : ElementFilter.methodsIn(current.getEnclosedElements())) {
+        if (hasConstraint(method.getAnnotationMirrors())
+            || hasConstraint(method.getReturnType().getAnnotationMirrors())) {
+          return false;
+        }
+      }
+      current = superType(current);
+    }
+    return true;
+  }
+
+  private static boolean fieldConstraintFree(VariableElement field, Set<String> visiting) {
+    if (hasConstraint(field.getAnnotationMirrors()) || Util.isNonNullable(field)) {
+      return false;
+    }
+    return typeConstraintFree(field.asType(), ValidPrism.isPresent(field), visiting);
+  }
+
+  private static boolean typeConstraintFree(TypeMirror type, boolean valid, Set<String> visiting) {
+    if (hasConstraint(type.getAnnotationMirrors())) {
+      return false;
+    }
+    final boolean cascade =
+      valid || type.getAnnotationMirrors().stream().anyMatch(ValidPrism::isInstance);
+    if (type instanceof final ArrayType arrayType) {
+      return typeConstraintFree(arrayType.getComponentType(), cascade, visiting);
+    }
+    if (type instanceof final DeclaredType declaredType
+        && declaredType.asElement() instanceof final TypeElement element) {
+      if (!element.getQualifiedName().toString().startsWith("java.")) {
+        return !cascade
+          || element.getKind() == ElementKind.ENUM
+          || isConstraintFree(element, visiting);
+      }
+      // @Valid on a container type cascades to the elements
+      for (final TypeMirror typeArgument : declaredType.getTypeArguments()) {
+        if (!typeConstraintFree(typeArgument, cascade, visiting)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return type.getKind().isPrimitive() || !cascade;
+  }
+
+  private static boolean hasConstraint(Iterable<? extends AnnotationMirror> annotations) {
+    for (final AnnotationMirror annotation : annotations) {
+      if (!ValidPrism.isInstance(annotation)
+          && ElementAnnotationContainer.hasMetaConstraintAnnotation(annotation)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static TypeElement superType(TypeElement type) {
+    final TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() == TypeKind.DECLARED) {
+      return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+    return null;
+  }
+}
@@ -0,0 +1,104 @@
+package io.avaje.validation.generator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Orders the constraints of an element by estimated cost and removes a last constraint that can
+ * never fail after the constraint before it passed.
+ *
+ * <p>The constraints of an element are validated in order and a constraint is skipped when the
+ * constraint right before it failed. A constraint that only fails when the constraint right before
+ * it (with the same groups) also fails never adds a violation. It is only dropped when it is the
+ * last constraint, as otherwise the constraint after it would be skipped when the one before it
+ * failed.
+ */
+final class ConstraintPlan {
+
+  /** Built-in constraints from cheapest to most expensive, custom constraints run after these. */
+  private static final List<String> COST_ORDER =
+    List.of(
+      "Null",
+      "NotNull",
+      "NonNull",
+      "AssertTrue",
+      "AssertFalse",
+      "Positive",
+      "PositiveOrZero",
+      "Negative",
+      "NegativeOrZero",
+      "Min",
+      "Max",
+      "Range",
+      "NotBlank",
+      "NotEmpty",
+      "Size",
+      "Length",
+      "Digits",
+      "DecimalMin",
+      "DecimalMax",
+      "Past",
+      "PastOrPresent",
+      "Future",
+      "FutureOrPresent",
+      "DateRange",
+      "UUID",
+      "URI",
+      "Pattern",
+      "Email");
+
+  private ConstraintPlan() {}
+
+  /**
+   * Return the constraints ordered by cost without the redundant constraints.
+   *
+   * @param groups The groups of the constraints, no entry or empty for the Default group
+   */
+  static Map<UType, String> optimize(Map<UType, String> constraints, Map<UType, Set<String>> groups) {
+    if (constraints.size() < 2) {
+      return constraints;
+    }
+    final List<Map.Entry<UType, String>> ordered = new ArrayList<>(constraints.entrySet());
+    ordered.sort(
+      Comparator.comparingInt((Map.Entry<UType, String> e) -> cost(e.getKey()))
+        .thenComparing(e -> e.getKey().mainType()));
+
+    final int last = ordered.size() - 1;
+    if (subsumed(ordered.get(last - 1).getKey(), ordered.get(last).getKey(), groups)) {
+      ordered.remove(last);
+    }
+    final Map<UType, String> result = new LinkedHashMap<>();
+    for (final var entry : ordered) {
+      result.put(entry.getKey(), entry.getValue());
+    }
+    return result;
+  }
+
+  private static int cost(UType annotation) {
+    if (Constants.VALID_ANNOTATIONS.contains(annotation.mainType())) {
+      return Integer.MAX_VALUE;
+    }
+    final int index = COST_ORDER.indexOf(Util.shortName(annotation.mainType()));
+    return index < 0 ? COST_ORDER.size() : index;
+  }
+
+  /** Return true if the constraint before already fails whenever the constraint fails. */
+  private static boolean subsumed(UType before, UType constraint, Map<UType, Set<String>> groups) {
+    return groups.getOrDefault(before, Set.of()).equals(groups.getOrDefault(constraint, Set.of()))
+      && subsumes(Util.shortName(before.mainType()), Util.shortName(constraint.mainType()));
+  }
+
+  private static boolean subsumes(String earlier, String name) {
+    return switch (name) {
+      // both only fail for null, for example an explicit @NotNull with an implied @NonNull
+      case "NotNull", "NonNull" -> "NotNull".equals(earlier) || "NonNull".equals(earlier);
+      // null and empty strings are also blank
+      case "NotEmpty" -> "NotBlank".equals(earlier);
+      default -> false;
+    };
+  }
+}
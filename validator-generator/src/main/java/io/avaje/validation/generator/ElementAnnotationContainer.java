@@ -4,46 +4,62 @@ import static io.avaje.validation.generator.APContext.typeElement;
 import static io.avaje.validation.generator.PrimitiveUtil.isPrimitiveValidationAnnotations;
 import static java.util.stream.Collectors.toMap;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 
 import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeMirror;
 
+/**
+ * The constraints of an element with their attribute maps.
+ *
+ * @param groups The groups of the element constraints, a constraint without is in the Default group
+ */
 record ElementAnnotationContainer(
     UType genericType,
     boolean hasValid,
     Map<UType, String> annotations,
     Map<UType, String> typeUse1,
     Map<UType, String> typeUse2,
-    Map<UType, String> crossParam) {
+    Map<UType, String> crossParam,
+    Map<UType, Set<String>> groups) {
 
   static ElementAnnotationContainer create(Element element) {
     final var hasValid = ValidPrism.isPresent(element);
     Map<UType, String> typeUse1;
     Map<UType, String> typeUse2;
     final Map<UType, String> crossParam = new HashMap<>();
-    UType uType;
+    final TypeMirror type;
     if (element instanceof final ExecutableElement executableElement) {
-      uType = UType.parse(executableElement.getReturnType());
+      type = executableElement.getReturnType();
     } else {
-      uType = UType.parse(element.asType());
+      type = element.asType();
     }
+    final UType uType = UType.parse(type);
 
-    typeUse1 =
-      Optional.ofNullable(uType.param0()).map(UType::annotations).stream()
-        .flatMap(List::stream)
-        .filter(ElementAnnotationContainer::hasMetaConstraintAnnotation)
-        .collect(
-          toMap(
-            a -> UType.parse(a.getAnnotationType()),
-            a -> AnnotationUtil.annotationAttributeMap(a, element)));
+    if (type instanceof final ArrayType arrayType) {
+      typeUse1 = arrayElementAnnotations(arrayType, element);
+    } else {
+      typeUse1 =
+        Optional.ofNullable(uType.param0()).map(UType::annotations).stream()
+          .flatMap(List::stream)
+          .filter(ElementAnnotationContainer::hasMetaConstraintAnnotation)
+          .collect(
+            toMap(
+              a -> UType.parse(a.getAnnotationType()),
+              a -> AnnotationUtil.annotationAttributeMap(a, element)));
+    }
 
     typeUse2 =
       Optional.ofNullable(uType.param1()).map(UType::annotations).stream()
@@ -78,7 +94,54 @@ record ElementAnnotationContainer(
       annotations.put(nonNull, "Map.of(\"message\",\"{avaje.NotNull.message}\")");
     }
 
-    return new ElementAnnotationContainer(uType, hasValid, annotations, typeUse1, typeUse2, crossParam);
+    final var groups = groups(element.getAnnotationMirrors());
+    return new ElementAnnotationContainer(
+      uType,
+      hasValid,
+      ConstraintPlan.optimize(annotations, groups),
+      ConstraintPlan.optimize(typeUse1, groups(typeUse1Mirrors(type, uType))),
+      ConstraintPlan.optimize(typeUse2, groups(typeUseMirrors(uType.param1()))),
+      crossParam,
+      groups);
+  }
+
+  private static List<? extends AnnotationMirror> typeUse1Mirrors(TypeMirror type, UType uType) {
+    return type instanceof final ArrayType arrayType ? arrayType.getAnnotationMirrors() : typeUseMirrors(uType.param0());
+  }
+
+  private static List<? extends AnnotationMirror> typeUseMirrors(UType param) {
+    return param == null ? List.of() : param.annotations();
+  }
+
+  /** Return the groups of each of the annotations, from the values of the groups member. */
+  private static Map<UType, Set<String>> groups(Collection<? extends AnnotationMirror> mirrors) {
+    final Map<UType, Set<String>> groups = new HashMap<>();
+    for (final AnnotationMirror mirror : mirrors) {
+      final Set<String> values = new TreeSet<>();
+      mirror.getElementValues().forEach((member, value) -> {
+        if ("groups".contentEquals(member.getSimpleName()) && value.getValue() instanceof final List<?> list) {
+          for (final Object group : list) {
+            values.add(((AnnotationValue) group).getValue().toString());
+          }
+        }
+      });
+      groups.put(UType.parse(mirror.getAnnotationType()), Set.copyOf(values));
+    }
+    return groups;
+  }
+
+  /**
+   * Constraints on the array type itself like {@code int @Min(0) []} apply to each element of the
+   * array, so the attributes are written for the component type.
+   */
+  private static Map<UType, String> arrayElementAnnotations(ArrayType arrayType, Element element) {
+    final TypeMirror componentType = arrayType.getComponentType();
+    return arrayType.getAnnotationMirrors().stream()
+      .filter(ElementAnnotationContainer::hasMetaConstraintAnnotation)
+      .collect(
+        toMap(
+          a -> UType.parse(a.getAnnotationType()),
+          a -> AnnotationUtil.annotationAttributeMap(a, element, componentType)));
   }
 
   static boolean hasMetaConstraintAnnotation(AnnotationMirror m) {
@@ -103,14 +166,19 @@ record ElementAnnotationContainer(
             a -> UType.parse(a.getAnnotationType()),
             a -> AnnotationUtil.annotationAttributeMap(a, varElement)));
 
-    var typeUse1 =
-      Optional.ofNullable(uType.param0()).map(UType::annotations).stream()
-        .flatMap(List::stream)
-        .filter(ElementAnnotationContainer::hasMetaConstraintAnnotation)
-        .collect(
-          toMap(
-            a -> UType.parse(a.getAnnotationType()),
-            a -> AnnotationUtil.annotationAttributeMap(a, varElement)));
+    Map<UType, String> typeUse1;
+    if (varElement.asType() instanceof final ArrayType arrayType) {
+      typeUse1 = arrayElementAnnotations(arrayType, varElement);
+    } else {
+      typeUse1 =
+        Optional.ofNullable(uType.param0()).map(UType::annotations).stream()
+          .flatMap(List::stream)
+          .filter(ElementAnnotationContainer::hasMetaConstraintAnnotation)
+          .collect(
+            toMap(
+              a -> UType.parse(a.getAnnotationType()),
+              a -> AnnotationUtil.annotationAttributeMap(a, varElement)));
+    }
 
     var typeUse2 =
       Optional.ofNullable(uType.param1()).map(UType::annotations).stream()
@@ -128,7 +196,20 @@ record ElementAnnotationContainer(
       annotations.put(nonNull, "Map.of(\"message\",\"{avaje.NotNull.message}\")");
     }
 
-    return new ElementAnnotationContainer(uType, hasValid, annotations, typeUse1, typeUse2, Map.of());
+    final var groups = groups(uType.annotations());
+    return new ElementAnnotationContainer(
+      uType,
+      hasValid,
+      ConstraintPlan.optimize(annotations, groups),
+      ConstraintPlan.optimize(typeUse1, groups(typeUse1Mirrors(varElement.asType(), uType))),
+      ConstraintPlan.optimize(typeUse2, groups(typeUseMirrors(uType.param1()))),
+      Map.of(),
+      groups);
+  }
+
+  /** Return the groups of the element constraint, empty for the Default group. */
+  Set<String> groups(UType annotation) {
+    return groups.getOrDefault(annotation, Set.of());
   }
 
   public void addImports(Set<String> importTypes) {
@@ -142,7 +223,27 @@ record ElementAnnotationContainer(
     return annotations.isEmpty() && typeUse1.isEmpty() && typeUse2.isEmpty();
   }
 
+  /** Register the attribute maps of the constraint adapters. */
+  void addAttributes(AttributeConstants constants) {
+    for (final Map<UType, String> constraints : List.of(annotations, typeUse1, typeUse2)) {
+      constraints.forEach((annotation, attributes) -> {
+        if (!Constants.VALID_ANNOTATIONS.contains(annotation.mainType())) {
+          constants.add(attributes);
+        }
+      });
+    }
+  }
+
   boolean supportsPrimitiveValidation() {
+    return supportsPrimitiveValidation(annotations);
+  }
+
+  /** Return true if the element constraints of a primitive array can be validated without boxing. */
+  boolean supportsPrimitiveElementValidation() {
+    return supportsPrimitiveValidation(typeUse1);
+  }
+
+  private static boolean supportsPrimitiveValidation(Map<UType, String> annotations) {
     for (final var validationAnnotation : annotations.keySet()) {
       ConstraintPrism.getOptionalOn(typeElement(validationAnnotation.full()))
         .ifPresent(p -> {
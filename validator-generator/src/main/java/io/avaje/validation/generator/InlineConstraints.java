@@ -0,0 +1,291 @@
+package io.avaje.validation.generator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+
+/**
+ * The built-in constraints of a property checked by straight-line code in the generated validation
+ * methods, with the annotation attribute values baked in as constants. No constraint adapter is
+ * built for the property.
+ */
+final class InlineConstraints {
+
+  private static final String SIZE = "\"{avaje.Size.message}\"";
+  private static final String LENGTH = "\"{avaje.Length.message}\"";
+  private static final String LENGTH_MAX = "\"{avaje.Length.max.message}\"";
+
+  private static final Set<String> PACKAGES =
+    Set.of(
+      "io.avaje.validation.constraints",
+      "jakarta.validation.constraints",
+      "javax.validation.constraints");
+
+  private static final Set<String> INTEGRAL_TYPES =
+    Set.of(
+      "byte", "short", "int", "long",
+      "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long");
+
+  private static final Set<String> SIZED_TYPES =
+    Set.of(
+      "java.lang.String",
+      "java.util.Collection",
+      "java.util.List",
+      "java.util.Set",
+      "java.util.Map");
+
+  private record Check(String annotationType, String messageField, String template, String attributes, String invalid) {}
+
+  private final String fieldName;
+  private final List<Check> checks;
+
+  private InlineConstraints(String fieldName, List<Check> checks) {
+    this.fieldName = fieldName;
+    this.checks = checks;
+  }
+
+  /**
+   * Return the inline constraints for the property or null when any of the constraints needs the
+   * runtime constraint adapter (custom constraints, groups, containers, cascade etc).
+   */
+  static InlineConstraints of(Element element, ElementAnnotationContainer container, UType genericType, String fieldName) {
+    if (container.hasValid()
+        || container.annotations().isEmpty()
+        || !container.typeUse1().isEmpty()
+        || !container.typeUse2().isEmpty()
+        || !container.crossParam().isEmpty()) {
+      return null;
+    }
+    final String type = genericType.mainType();
+    final boolean primitive = PrimitiveUtil.isPrimitive(type);
+    final List<Check> checks = new ArrayList<>();
+    for (final var entry : container.annotations().entrySet()) {
+      final String annotation = entry.getKey().mainType();
+      final String simpleName = Util.shortName(annotation);
+      final AnnotationMirror mirror = mirror(element, annotation);
+      final boolean nonNull = NonNullPrism.PRISM_TYPE.equals(annotation);
+      if (!nonNull && (mirror == null || !PACKAGES.contains(annotation.substring(0, annotation.lastIndexOf('.'))))) {
+        return null;
+      }
+      final Map<String, AnnotationValue> values = values(mirror);
+      if (values.get("groups") != null && !((List<?>) values.get("groups").getValue()).isEmpty()) {
+        return null;
+      }
+      String template = nonNull ? "\"{avaje.NotNull.message}\"" : template(mirror, values);
+      final String invalid;
+      switch (nonNull ? "NotNull" : simpleName) {
+        case "NotNull", "NonNull" -> {
+          if (primitive) {
+            // primitive values are never null
+            continue;
+          }
+          invalid = "%1$s == null";
+        }
+        case "NotBlank" -> {
+          if (!"java.lang.String".equals(type) || intValue(values, "max", 0) > 0) {
+            return null;
+          }
+          invalid = "%1$s == null || %1$s.isBlank()";
+        }
+        case "NotEmpty" -> {
+          if (!SIZED_TYPES.contains(type)) {
+            return null;
+          }
+          invalid = "%1$s == null || %1$s.isEmpty()";
+        }
+        case "Size", "Length" -> {
+          if (!"java.lang.String".equals(type)) {
+            return null;
+          }
+          final int min = intValue(values, "min", 0);
+          final int max = intValue(values, "max", Integer.MAX_VALUE);
+          if (min == 0 && max == Integer.MAX_VALUE) {
+            continue;
+          }
+          // same message keys as the size adapter uses for strings
+          if (min == 0 && (LENGTH.equals(template) || SIZE.equals(template))) {
+            template = LENGTH_MAX;
+          } else if (SIZE.equals(template)) {
+            template = LENGTH;
+          }
+          invalid = "%1$s != null && (" + lengthCheck(min, max) + ")";
+        }
+        case "Min", "Max" -> {
+          if (!INTEGRAL_TYPES.contains(type)) {
+            return null;
+          }
+          final long value = ((Number) values.get("value").getValue()).longValue();
+          invalid = nullGuard(primitive) + "%1$s " + ("Min".equals(simpleName) ? "<" : ">") + " " + value + "L";
+        }
+        case "Positive", "PositiveOrZero", "Negative", "NegativeOrZero" -> {
+          if (!INTEGRAL_TYPES.contains(type)) {
+            return null;
+          }
+          invalid = nullGuard(primitive) + "%1$s " + signCheck(simpleName) + " 0";
+        }
+        case "AssertTrue", "AssertFalse" -> {
+          if (!"boolean".equals(type)) {
+            return null;
+          }
+          invalid = "AssertTrue".equals(simpleName) ? "!%1$s" : "%1$s";
+        }
+        default -> {
+          return null;
+        }
+      }
+      final String messageField = Util.initLower(fieldName) + simpleName + "Message";
+      if (checks.stream().anyMatch(c -> c.messageField().equals(messageField))) {
+        return null;
+      }
+      checks.add(new Check(entry.getKey().shortWithoutAnnotations(), messageField, template, entry.getValue(), invalid));
+    }
+    return new InlineConstraints(fieldName, checks);
+  }
+
+  private static AnnotationMirror mirror(Element element, String annotation) {
+    for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (annotation.equals(mirror.getAnnotationType().asElement().toString())) {
+        return mirror;
+      }
+    }
+    return null;
+  }
+
+  private static Map<String, AnnotationValue> values(AnnotationMirror mirror) {
+    final Map<String, AnnotationValue> values = new HashMap<>();
+    if (mirror != null) {
+      APContext.elements()
+        .getElementValuesWithDefaults(mirror)
+        .forEach((k, v) -> values.put(k.getSimpleName().toString(), v));
+    }
+    return values;
+  }
+
+  /** The message template as a string literal, default message keys use the avaje key. */
+  private static String template(AnnotationMirror mirror, Map<String, AnnotationValue> values) {
+    final boolean explicit =
+      mirror.getElementValues().keySet().stream()
+        .anyMatch(m -> "message".contentEquals(m.getSimpleName()));
+    final String message = values.get("message").toString();
+    return explicit ? message : AnnotationUtil.avajeKey(message);
+  }
+
+  private static int intValue(Map<String, AnnotationValue> values, String name, int defaultValue) {
+    final AnnotationValue value = values.get(name);
+    return value == null ? defaultValue : ((Number) value.getValue()).intValue();
+  }
+
+  private static String nullGuard(boolean primitive) {
+    return primitive ? "" : "%1$s != null && ";
+  }
+
+  private static String lengthCheck(int min, int max) {
+    if (min == 0) {
+      return "%1$s.length() > " + max;
+    }
+    if (max == Integer.MAX_VALUE) {
+      return "%1$s.length() < " + min;
+    }
+    return "%1$s.length() < " + min + " || %1$s.length() > " + max;
+  }
+
+  private static String signCheck(String simpleName) {
+    return switch (simpleName) {
+      case "Positive" -> "<=";
+      case "PositiveOrZero" -> "<";
+      case "Negative" -> ">=";
+      default -> ">";
+    };
+  }
+
+  boolean isEmpty() {
+    return checks.isEmpty();
+  }
+
+  int size() {
+    return checks.size();
+  }
+
+  void writeFields(Append writer) {
+    for (final Check check : checks) {
+      writer.append("  private final ValidationContext.Message %s;", check.messageField()).eol();
+    }
+  }
+
+  void addAttributes(AttributeConstants constants) {
+    for (final Check check : checks) {
+      constants.add(check.attributes());
+    }
+  }
+
+  void writeConstructor(Append writer, AttributeConstants constants) {
+    for (final Check check : checks) {
+      writer.append("    this.%s = ctx.message(%s.class, %s, %s);",
+        check.messageField(), check.annotationType(), check.template(), constants.of(check.attributes())).eol();
+    }
+  }
+
+  /**
+   * Write the checks for the validate method. As per the chained adapters a check is skipped when
+   * the check before it failed. When validating the default group only the checks are written
+   * without the group condition.
+   */
+  void writeValidate(Append writer, boolean optionalValidation, boolean defaultGroupOnly) {
+    writeChecks(writer, "    ", defaultGroupOnly ? null : "_$defaultGroup", optionalValidation, null);
+  }
+
+  /**
+   * Write the checks of the property value in local variable {@code _$<fieldName>}.
+   *
+   * @param groupCondition The condition that the Default group is validated, null when it is
+   * @param lastViolation Statement following a violation of the last check, null for none
+   */
+  void writeChecks(Append writer, String indent, String groupCondition, boolean optionalValidation, String lastViolation) {
+    if (checks.isEmpty()) {
+      return;
+    }
+    final String local = "_$" + fieldName;
+    final String passed = local + "$passed";
+    String condition = groupCondition;
+    if (optionalValidation) {
+      condition = condition == null ? local + " != null" : condition + " && " + local + " != null";
+    }
+    if (condition != null) {
+      writer.append("%sif (%s) {", indent, condition).eol();
+      indent += "  ";
+    }
+    if (checks.size() > 1) {
+      writer.append("%sboolean %s = true;", indent, passed).eol();
+    }
+    for (int i = 0; i < checks.size(); i++) {
+      final Check check = checks.get(i);
+      final boolean last = i == checks.size() - 1;
+      final String invalid = String.format(check.invalid(), local);
+      if (i == 0) {
+        writer.append("%sif (%s) {", indent, invalid).eol();
+      } else {
+        writer.append("%sif (%s && (%s)) {", indent, passed, invalid).eol();
+      }
+      writer.append("%s  request.addViolation(%s, \"%s\", %s);", indent, check.messageField(), fieldName, local).eol();
+      if (!last) {
+        writer.append("%s  %s = false;", indent, passed).eol();
+      } else if (lastViolation != null) {
+        writer.append("%s  %s", indent, lastViolation).eol();
+      }
+      if (i > 0 && !last) {
+        writer.append("%s} else {", indent).eol();
+        writer.append("%s  %s = true;", indent, passed).eol();
+      }
+      writer.append("%s}", indent).eol();
+    }
+    if (condition != null) {
+      writer.append("%s}", indent.substring(2)).eol();
+    }
+  }
+}
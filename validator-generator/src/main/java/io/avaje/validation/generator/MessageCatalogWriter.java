@@ -0,0 +1,218 @@
+package io.avaje.validation.generator;
+
+import static io.avaje.validation.generator.APContext.createSourceFile;
+import static io.avaje.validation.generator.APContext.filer;
+import static io.avaje.validation.generator.APContext.logError;
+import static io.avaje.validation.generator.APContext.logWarn;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Compiles the message bundles into a generated class with a ListResourceBundle per bundle and
+ * locale, such that the validator does not load and parse the properties files at runtime.
+ *
+ * <p>Each compiled bundle holds the messages of the locale merged with its parent locales (as
+ * ResourceBundle.getBundle would resolve them) and reports the bundle name and locale, which the
+ * validator uses to select it instead of loading the bundle.
+ */
+final class MessageCatalogWriter {
+
+  static final String DEFAULT_BUNDLE = "io.avaje.validation.Messages";
+  static final String SHORT_NAME = "GeneratedMessageCatalog";
+
+  private record Catalog(String className, String bundleName, Locale locale, Map<String, String> messages) {}
+
+  private final ComponentMetaData metaData;
+  private final List<Catalog> catalogs = new ArrayList<>();
+
+  MessageCatalogWriter(ComponentMetaData metaData) {
+    this.metaData = metaData;
+  }
+
+  /** Return true if message catalogs are configured via processor options. */
+  static boolean enabled() {
+    return !ProcessingContext.messageLocales().isEmpty();
+  }
+
+  /** Return the full name of the generated catalog class. */
+  String fullName() {
+    final String packageName = metaData.packageName();
+    return packageName == null || packageName.isEmpty() ? SHORT_NAME : packageName + "." + SHORT_NAME;
+  }
+
+  void write() throws IOException {
+    read();
+    final Append writer = new Append(createSourceFile(fullName()).openWriter());
+    final String packageName = metaData.packageName();
+    if (packageName != null && !packageName.isEmpty()) {
+      writer.append("package %s;", packageName).eol().eol();
+    }
+    writer.append("import java.util.ListResourceBundle;").eol();
+    writer.append("import java.util.Locale;").eol();
+    writer.append("import java.util.ResourceBundle;").eol().eol();
+    writer.append("import io.avaje.validation.spi.Generated;").eol().eol();
+    writer.append("@Generated(\"avaje-validator-generator\")").eol();
+    writer.append("final class %s {", SHORT_NAME).eol().eol();
+    writer.append("  private %s() {}", SHORT_NAME).eol().eol();
+    writer.append("  /** Return the precompiled message bundles. */").eol();
+    writer.append("  static ResourceBundle[] bundles() {").eol();
+    writer.append("    return new ResourceBundle[] {").eol();
+    for (final Catalog catalog : catalogs) {
+      writer.append("      new %s(),", catalog.className()).eol();
+    }
+    writer.append("    };").eol();
+    writer.append("  }").eol();
+    for (final Catalog catalog : catalogs) {
+      writeCatalog(writer, catalog);
+    }
+    writer.append("}").eol();
+    writer.close();
+  }
+
+  private void read() {
+    final List<String> bundleNames = new ArrayList<>(ProcessingContext.messageBundles());
+    bundleNames.add(DEFAULT_BUNDLE);
+    final Set<String> classNames = new HashSet<>();
+    for (final String bundleName : bundleNames) {
+      for (final Locale locale : ProcessingContext.messageLocales()) {
+        final Map<String, String> messages = messages(bundleName, locale);
+        if (messages == null) {
+          logWarn("No message bundle %s found to precompile for locale %s", bundleName, locale);
+          continue;
+        }
+        final String suffix = Locale.ROOT.equals(locale) ? "" : "_" + locale.toLanguageTag().replace('-', '_');
+        String className = Util.shortName(bundleName) + suffix;
+        if (!classNames.add(className)) {
+          className = className + "_" + classNames.size();
+          classNames.add(className);
+        }
+        catalogs.add(new Catalog(className, bundleName, locale, messages));
+      }
+    }
+  }
+
+  /** Return the messages of the locale merged with the messages of its parent locales. */
+  private static Map<String, String> messages(String bundleName, Locale locale) {
+    final List<String> suffixes = new ArrayList<>();
+    suffixes.add("");
+    if (!locale.getLanguage().isEmpty()) {
+      suffixes.add("_" + locale.getLanguage());
+      if (!locale.getCountry().isEmpty()) {
+        suffixes.add("_" + locale.getLanguage() + "_" + locale.getCountry());
+      }
+    }
+    final Map<String, String> messages = new TreeMap<>();
+    boolean found = false;
+    for (final String suffix : suffixes) {
+      final Properties properties = properties(bundleName, suffix);
+      if (properties != null) {
+        found = true;
+        properties.forEach((key, value) -> messages.put((String) key, (String) value));
+      }
+    }
+    return found ? messages : null;
+  }
+
+  private static Properties properties(String bundleName, String suffix) {
+    final int dot = bundleName.lastIndexOf('.');
+    final String packageName = dot < 0 ? "" : bundleName.substring(0, dot);
+    final String fileName = bundleName.substring(dot + 1) + suffix + ".properties";
+    // application bundles are in the class output, the avaje bundles on the class path
+    for (final var location : List.of(StandardLocation.CLASS_OUTPUT, StandardLocation.CLASS_PATH)) {
+      final FileObject resource;
+      try {
+        resource = filer().getResource(location, packageName, fileName);
+      } catch (final FileNotFoundException | IllegalArgumentException e) {
+        // not in this location or the location is not supported by the compiler
+        continue;
+      } catch (final IOException e) {
+        logError("Error reading message bundle %s/%s: %s", packageName, fileName, e.getMessage());
+        return null;
+      }
+      try (InputStream is = resource.openInputStream()) {
+        final Properties properties = new Properties();
+        properties.load(new StringReader(decode(is.readAllBytes())));
+        return properties;
+      } catch (final FileNotFoundException | NoSuchFileException e) {
+        // not in this location
+      } catch (final IOException | IllegalArgumentException e) {
+        // unreadable or malformed, for example an invalid unicode escape
+        logError("Error reading message bundle %s/%s: %s", packageName, fileName, e.getMessage());
+        return null;
+      }
+    }
+    return null;
+  }
+
+  /** Decode as UTF-8 falling back to ISO-8859-1 as per PropertyResourceBundle. */
+  private static String decode(byte[] bytes) {
+    try {
+      return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes)).toString();
+    } catch (final CharacterCodingException e) {
+      return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+  }
+
+  private static void writeCatalog(Append writer, Catalog catalog) {
+    writer.eol();
+    writer.append("  private static final class %s extends ListResourceBundle {", catalog.className()).eol().eol();
+    writer.append("    @Override").eol();
+    writer.append("    public String getBaseBundleName() {").eol();
+    writer.append("      return \"%s\";", catalog.bundleName()).eol();
+    writer.append("    }").eol().eol();
+    writer.append("    @Override").eol();
+    writer.append("    public Locale getLocale() {").eol();
+    writer.append("      return Locale.forLanguageTag(\"%s\");", catalog.locale().toLanguageTag()).eol();
+    writer.append("    }").eol().eol();
+    writer.append("    @Override").eol();
+    writer.append("    protected Object[][] getContents() {").eol();
+    writer.append("      return new Object[][] {").eol();
+    for (final var entry : catalog.messages().entrySet()) {
+      writer.append("        {%s, %s},", literal(entry.getKey()), literal(entry.getValue())).eol();
+    }
+    writer.append("      };").eol();
+    writer.append("    }").eol();
+    writer.append("  }").eol();
+  }
+
+  /** Return the value as a Java string literal with non-ASCII characters escaped. */
+  private static String literal(String value) {
+    final StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); i++) {
+      final char ch = value.charAt(i);
+      switch (ch) {
+        case '"' -> sb.append("\\\"");
+        case '\\' -> sb.append("\\\\");
+        case '\n' -> sb.append("\\n");
+        case '\r' -> sb.append("\\r");
+        case '\t' -> sb.append("\\t");
+        default -> {
+          if (ch < 0x20 || ch > 0x7e) {
+            sb.append(String.format("\\u%04x", (int) ch));
+          } else {
+            sb.append(ch);
+          }
+        }
+      }
+    }
+    return sb.append('"').toString();
+  }
+}
@@ -12,9 +12,14 @@ final class PrimitiveUtil {
           Set.of(
               "AssertFalse",
               "AssertTrue",
+              "NotNull",
+              "NonNull",
               "Range",
               "Min",
               "Max",
+              "DecimalMin",
+              "DecimalMax",
+              "Digits",
               "Positive",
               "PositiveOrZero",
               "Negative",
@@ -38,6 +43,8 @@ final class PrimitiveUtil {
           "boolean",
           "Boolean");
   private static final Set<String> primitiveValidationTypes = wrapperMap.keySet();
+  private static final Set<String> primitiveOptionalTypes =
+      Set.of("OptionalInt", "OptionalLong", "OptionalDouble");
 
   static String wrap(String shortName) {
     final String wrapped = wrapperMap.get(shortName);
@@ -52,6 +59,11 @@ final class PrimitiveUtil {
     return primitiveValidationTypes.contains(typeShortName);
   }
 
+  /** Return true if the type is OptionalInt, OptionalLong or OptionalDouble. */
+  static boolean isPrimitiveOptionalType(String typeShortName) {
+    return primitiveOptionalTypes.contains(typeShortName);
+  }
+
   static boolean isPrimitiveValidationAnnotations(String annotationShortName) {
     return primitiveValidationAnnotations.contains(annotationShortName);
   }
@@ -9,11 +9,18 @@ import static java.util.stream.Collectors.toSet;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
 import javax.tools.FileObject;
 import javax.tools.StandardLocation;
 
@@ -21,18 +28,45 @@ import io.avaje.validation.generator.ModuleInfoReader.Requires;
 
 final class ProcessingContext {
 
+  /** Processor option to check built-in constraints inline in the generated adapters. */
+  static final String INLINE_OPTION = "avaje.validation.inline";
+
+  /**
+   * Processor option to not generate the cascades to constraint free types. Adapters added for
+   * these types when the validator is built are then never called.
+   */
+  static final String SKIP_CONSTRAINT_FREE_OPTION = "avaje.validation.skipConstraintFree";
+
+  /** Processor option with the locales to precompile the message bundles for. */
+  static final String MESSAGE_LOCALES_OPTION = "avaje.validation.messages.locales";
+
+  /** Processor option with the application message bundles to precompile. */
+  static final String MESSAGE_BUNDLES_OPTION = "avaje.validation.messages.bundles";
+
   private static final ThreadLocal<Ctx> CTX = new ThreadLocal<>();
 
   private static final class Ctx {
     private final String diAnnotation;
     private final boolean warnHttp;
     private final boolean injectPresent;
+    private final boolean inlineConstraints;
+    private final boolean skipConstraintFree;
+    private final List<Locale> messageLocales;
+    private final List<String> messageBundles;
     private final Set<String> serviceSet = new TreeSet<>();
+    private final Set<String> adapterTypes = new HashSet<>();
+    private final Map<String, String> mixInTypes = new HashMap<>();
+    private final Map<String, Boolean> constraintFreeTypes = new HashMap<>();
 
     Ctx(ProcessingEnvironment env) {
       var elements = env.getElementUtils();
       this.injectPresent = elements.getTypeElement(Constants.COMPONENT) != null;
       this.warnHttp = elements.getTypeElement("io.avaje.http.api.Controller") != null;
+      this.inlineConstraints = Boolean.parseBoolean(env.getOptions().get(INLINE_OPTION));
+      this.skipConstraintFree = Boolean.parseBoolean(env.getOptions().get(SKIP_CONSTRAINT_FREE_OPTION));
+      this.messageLocales =
+          options(env, MESSAGE_LOCALES_OPTION).stream().map(Locale::forLanguageTag).toList();
+      this.messageBundles = options(env, MESSAGE_BUNDLES_OPTION);
 
       final var jakarta = elements.getTypeElement(Constants.SINGLETON_JAKARTA) != null;
       diAnnotation =
@@ -44,6 +78,15 @@ final class ProcessingContext {
 
   private ProcessingContext() {}
 
+  /** Return the comma separated values of the option. */
+  private static List<String> options(ProcessingEnvironment env, String option) {
+    final String value = env.getOptions().get(option);
+    if (value == null || value.isBlank()) {
+      return List.of();
+    }
+    return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+  }
+
   static void init(ProcessingEnvironment processingEnv) {
     CTX.set(new Ctx(processingEnv));
     APContext.init(processingEnv);
@@ -57,6 +100,51 @@ final class ProcessingContext {
     return CTX.get().diAnnotation;
   }
 
+  static boolean inlineConstraints() {
+    return CTX.get().inlineConstraints;
+  }
+
+  static boolean skipConstraintFree() {
+    return CTX.get().skipConstraintFree;
+  }
+
+  static List<Locale> messageLocales() {
+    return CTX.get().messageLocales;
+  }
+
+  static List<String> messageBundles() {
+    return CTX.get().messageBundles;
+  }
+
+  /** Register a type the adapter is generated for by this processor. */
+  static void addAdapterType(String type) {
+    CTX.get().adapterTypes.add(type);
+  }
+
+  static boolean isAdapterType(String type) {
+    return CTX.get().adapterTypes.contains(type);
+  }
+
+  /** Register a type with its {@code @MixIn}. */
+  static void addMixInType(String type, String mixInType) {
+    CTX.get().mixInTypes.put(type, mixInType);
+  }
+
+  static boolean hasMixIn(String type) {
+    return CTX.get().mixInTypes.containsKey(type);
+  }
+
+  /** Return the mix-in of the type, null when it has none. */
+  static TypeElement mixIn(String type) {
+    final String mixInType = CTX.get().mixInTypes.get(type);
+    return mixInType == null ? null : APContext.typeElement(mixInType);
+  }
+
+  /** The types known to be constraint free or not. */
+  static Map<String, Boolean> constraintFreeTypes() {
+    return CTX.get().constraintFreeTypes;
+  }
+
   static boolean isImported(Element element) {
     var moduleName = APContext.getProjectModuleElement().getQualifiedName();
     return !APContext.elements().getModuleOf(element).getQualifiedName().contentEquals(moduleName);
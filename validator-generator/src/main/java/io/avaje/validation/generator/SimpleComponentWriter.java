@@ -86,6 +86,9 @@ final class SimpleComponentWriter {
 
       writer.append("    builder.add(%s.class, %s::new);", target, typeShortName).eol();
     }
+    if (MessageCatalogWriter.enabled()) {
+      writer.append("    builder.addResourceBundles(%s.bundles());", MessageCatalogWriter.SHORT_NAME).eol();
+    }
 
     writer.append("  }").eol().eol();
   }
@@ -168,12 +168,15 @@ final class Util {
   }
 
   static boolean isNonNullable(Element e) {
-    UType uType;
-    if (e instanceof final ExecutableElement executableElement) {
-      uType = UType.parse(executableElement.getReturnType());
-    } else {
-      uType = UType.parse(e.asType());
+    final TypeMirror type =
+      e instanceof final ExecutableElement executableElement
+        ? executableElement.getReturnType()
+        : e.asType();
+    if (type.getKind().isPrimitive()) {
+      // primitives can never be null
+      return false;
     }
+    final UType uType = UType.parse(type);
     for (var mirror : uType.annotations()) {
       if (mirror.getAnnotationType().toString().endsWith("Nullable")) {
         return false;
@@ -64,6 +64,15 @@ public final class ValidationProcessor extends AbstractProcessor {
     return SourceVersion.latest();
   }
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    return Set.of(
+      ProcessingContext.INLINE_OPTION,
+      ProcessingContext.SKIP_CONSTRAINT_FREE_OPTION,
+      ProcessingContext.MESSAGE_LOCALES_OPTION,
+      ProcessingContext.MESSAGE_BUNDLES_OPTION);
+  }
+
   @Override
   public synchronized void init(ProcessingEnvironment processingEnv) {
     super.init(processingEnv);
@@ -103,6 +112,7 @@ public final class ValidationProcessor extends AbstractProcessor {
   public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
     APContext.setProjectModuleElement(annotations, round);
     readModule();
+    registerAdapterTypes(round);
     getElements(round, AvajeConstraintPrism.PRISM_TYPE).ifPresent(this::writeConstraintAdapters);
     getElements(round, JavaxConstraintPrism.PRISM_TYPE).ifPresent(this::writeConstraintAdapters);
     getElements(round, JakartaConstraintPrism.PRISM_TYPE).ifPresent(this::writeConstraintAdapters);
@@ -128,6 +138,29 @@ public final class ValidationProcessor extends AbstractProcessor {
     return false;
   }
 
+  /**
+   * Register the types this processor generates the adapters for and the types with a mix-in up
+   * front, as a cascade to a type is only skipped when its generated adapter is constraint free.
+   */
+  private void registerAdapterTypes(RoundEnvironment round) {
+    for (final String valid : List.of(AvajeValidPrism.PRISM_TYPE, HttpValidPrism.PRISM_TYPE, JavaxValidPrism.PRISM_TYPE, JakartaValidPrism.PRISM_TYPE)) {
+      getElements(round, valid).ifPresent(beans -> {
+        for (final TypeElement type : ElementFilter.typesIn(beans)) {
+          if (!isController(type)) {
+            ProcessingContext.addAdapterType(type.getQualifiedName().toString());
+          }
+        }
+      });
+    }
+    getElements(round, MixInPrism.PRISM_TYPE).ifPresent(mixins -> {
+      for (final Element mixin : mixins) {
+        final TypeElement type = asTypeElement(MixInPrism.getInstanceOn(mixin).value());
+        ProcessingContext.addMixInType(
+          type.getQualifiedName().toString(), asTypeElement(mixin.asType()).getQualifiedName().toString());
+      }
+    });
+  }
+
   // Optional because these annotations are not guaranteed to exist
   private Optional<? extends Set<? extends Element>> getElements(RoundEnvironment round, String name) {
     return Optional.ofNullable(typeElement(name)).map(round::getElementsAnnotatedWith);
@@ -254,6 +287,9 @@ public final class ValidationProcessor extends AbstractProcessor {
       try {
         componentWriter.write();
         componentWriter.writeMetaInf();
+        if (MessageCatalogWriter.enabled()) {
+          new MessageCatalogWriter(metaData).write();
+        }
       } catch (final IOException e) {
         logError("Error writing component", e);
       } finally {
@@ -2,6 +2,7 @@ package io.avaje.validation.generator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -11,6 +12,8 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import javax.tools.JavaCompiler;
@@ -45,6 +48,108 @@ class ValidatorProcessorTest {
 
   @Test
   void testGeneration() throws Exception {
+    assertThat(compile("--release=17")).isTrue();
+  }
+
+  @Test
+  void testInlineGeneration() throws Exception {
+    assertThat(compile("--release=17", "-Aavaje.validation.inline=true")).isTrue();
+  }
+
+  @Test
+  void testSkipConstraintFreeGeneration() throws Exception {
+    assertThat(compile("--release=17", "-Aavaje.validation.skipConstraintFree=true")).isTrue();
+  }
+
+  @Test
+  void testMessageCatalogGeneration() throws Exception {
+    assertThat(compile("--release=17", "-Aavaje.validation.messages.locales=en,de,zh-CN")).isTrue();
+  }
+
+  @Test
+  void testHugeMethodSplit() throws Exception {
+    assertThat(compile("--release=17")).isTrue();
+    assertMethodsSplit(codeSizes("WideRecordValidationAdapter.class"));
+  }
+
+  @Test
+  void testHugeMethodSplitInline() throws Exception {
+    assertThat(compile("--release=17", "-Aavaje.validation.inline=true")).isTrue();
+    assertMethodsSplit(codeSizes("WideRecordValidationAdapter.class"));
+  }
+
+  private static void assertMethodsSplit(Map<String, Integer> sizes) {
+    assertThat(sizes)
+      .containsKeys("validateFields1", "validateChangedFields1", "validatePropertyFields1", "validateValueFields1");
+    // HotSpot does not JIT compile methods larger than 8000 bytes (HugeMethodLimit)
+    for (final var entry : sizes.entrySet()) {
+      assertThat(entry.getValue()).as(entry.getKey()).isLessThan(8000);
+    }
+  }
+
+  /** Return the bytecode size of each method of the compiled class, the largest of overloads. */
+  private static Map<String, Integer> codeSizes(String classFileName) throws IOException {
+    final Path classFile;
+    // written with the generated sources as no class output directory is set
+    try (var paths = Files.walk(Paths.get("io").toAbsolutePath())) {
+      classFile = paths.filter(p -> p.endsWith(classFileName)).findFirst().orElseThrow();
+    }
+    final Map<String, Integer> sizes = new HashMap<>();
+    try (var in = new DataInputStream(Files.newInputStream(classFile))) {
+      in.skipNBytes(8);
+      final int constantCount = in.readUnsignedShort();
+      final String[] utf8 = new String[constantCount];
+      for (int i = 1; i < constantCount; i++) {
+        final int tag = in.readUnsignedByte();
+        switch (tag) {
+          case 1 -> utf8[i] = in.readUTF();
+          case 7, 8, 16, 19, 20 -> in.skipNBytes(2);
+          case 15 -> in.skipNBytes(3);
+          case 5, 6 -> {
+            in.skipNBytes(8);
+            i++;
+          }
+          default -> in.skipNBytes(4);
+        }
+      }
+      in.skipNBytes(6);
+      in.skipNBytes(2L * in.readUnsignedShort());
+      skipMembers(in);
+      final int methodCount = in.readUnsignedShort();
+      for (int m = 0; m < methodCount; m++) {
+        in.skipNBytes(2);
+        final String name = utf8[in.readUnsignedShort()];
+        in.skipNBytes(2);
+        final int attributeCount = in.readUnsignedShort();
+        for (int a = 0; a < attributeCount; a++) {
+          final String attribute = utf8[in.readUnsignedShort()];
+          final int length = in.readInt();
+          if ("Code".equals(attribute)) {
+            in.skipNBytes(4);
+            sizes.merge(name, in.readInt(), Math::max);
+            in.skipNBytes(length - 8L);
+          } else {
+            in.skipNBytes(length);
+          }
+        }
+      }
+    }
+    return sizes;
+  }
+
+  private static void skipMembers(DataInputStream in) throws IOException {
+    final int count = in.readUnsignedShort();
+    for (int i = 0; i < count; i++) {
+      in.skipNBytes(6);
+      final int attributeCount = in.readUnsignedShort();
+      for (int a = 0; a < attributeCount; a++) {
+        in.skipNBytes(2);
+        in.skipNBytes(in.readInt());
+      }
+    }
+  }
+
+  private static boolean compile(String... options) throws IOException {
     final String source =
         Paths.get("src/test/java/io/avaje/validation/generator/models/valid")
             .toAbsolutePath()
@@ -62,9 +167,9 @@ class ValidatorProcessorTest {
 
     final CompilationTask task =
         compiler.getTask(
-            new PrintWriter(System.out), null, null, Arrays.asList("--release=17"), null, files);
+            new PrintWriter(System.out), null, null, Arrays.asList(options), null, files);
     task.setProcessors(Arrays.asList(new ValidationProcessor()));
 
-    assertThat(task.call()).isTrue();
+    return task.call();
   }
 }
@@ -0,0 +1,19 @@
+package io.avaje.validation.generator.models.valid;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+import io.avaje.validation.constraints.DecimalMax;
+import io.avaje.validation.constraints.Digits;
+import io.avaje.validation.constraints.Max;
+import io.avaje.validation.constraints.Min;
+import io.avaje.validation.constraints.NotNull;
+import io.avaje.validation.constraints.Valid;
+
+@Valid
+public record PrimitiveCombined(
+    @NotNull @Min(1) @Max(10) int count,
+    @Digits(integer = 3, fraction = 0) long code,
+    @DecimalMax("9.5") @Min(0) double price,
+    @Min(1) OptionalInt quantity,
+    @DecimalMax(value = "2.5", inclusive = false) OptionalDouble ratio) {}
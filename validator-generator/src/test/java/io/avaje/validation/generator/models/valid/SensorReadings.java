@@ -0,0 +1,16 @@
+package io.avaje.validation.generator.models.valid;
+
+import io.avaje.validation.constraints.DecimalMax;
+import io.avaje.validation.constraints.Max;
+import io.avaje.validation.constraints.Min;
+import io.avaje.validation.constraints.NotEmpty;
+import io.avaje.validation.constraints.Positive;
+import io.avaje.validation.constraints.Size;
+import io.avaje.validation.constraints.Valid;
+
+@Valid
+public record SensorReadings(
+    @NotEmpty int @Min(0) @Max(100) [] readings,
+    double @DecimalMax("1.5") [] ratios,
+    @Size(max = 3) long[] ids,
+    Integer @Positive [] counts) {}
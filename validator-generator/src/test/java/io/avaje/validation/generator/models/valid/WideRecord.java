@@ -0,0 +1,188 @@
+package io.avaje.validation.generator.models.valid;
+
+import io.avaje.validation.constraints.NotBlank;
+import io.avaje.validation.constraints.Valid;
+
+/** Wide enough that the generated validation methods are split into multiple methods. */
+@Valid
+public record WideRecord(
+  @NotBlank String field1,
+  @NotBlank String field2,
+  @NotBlank String field3,
+  @NotBlank String field4,
+  @NotBlank String field5,
+  @NotBlank String field6,
+  @NotBlank String field7,
+  @NotBlank String field8,
+  @NotBlank String field9,
+  @NotBlank String field10,
+  @NotBlank String field11,
+  @NotBlank String field12,
+  @NotBlank String field13,
+  @NotBlank String field14,
+  @NotBlank String field15,
+  @NotBlank String field16,
+  @NotBlank String field17,
+  @NotBlank String field18,
+  @NotBlank String field19,
+  @NotBlank String field20,
+  @NotBlank String field21,
+  @NotBlank String field22,
+  @NotBlank String field23,
+  @NotBlank String field24,
+  @NotBlank String field25,
+  @NotBlank String field26,
+  @NotBlank String field27,
+  @NotBlank String field28,
+  @NotBlank String field29,
+  @NotBlank String field30,
+  @NotBlank String field31,
+  @NotBlank String field32,
+  @NotBlank String field33,
+  @NotBlank String field34,
+  @NotBlank String field35,
+  @NotBlank String field36,
+  @NotBlank String field37,
+  @NotBlank String field38,
+  @NotBlank String field39,
+  @NotBlank String field40,
+  @NotBlank String field41,
+  @NotBlank String field42,
+  @NotBlank String field43,
+  @NotBlank String field44,
+  @NotBlank String field45,
+  @NotBlank String field46,
+  @NotBlank String field47,
+  @NotBlank String field48,
+  @NotBlank String field49,
+  @NotBlank String field50,
+  @NotBlank String field51,
+  @NotBlank String field52,
+  @NotBlank String field53,
+  @NotBlank String field54,
+  @NotBlank String field55,
+  @NotBlank String field56,
+  @NotBlank String field57,
+  @NotBlank String field58,
+  @NotBlank String field59,
+  @NotBlank String field60,
+  @NotBlank String field61,
+  @NotBlank String field62,
+  @NotBlank String field63,
+  @NotBlank String field64,
+  @NotBlank String field65,
+  @NotBlank String field66,
+  @NotBlank String field67,
+  @NotBlank String field68,
+  @NotBlank String field69,
+  @NotBlank String field70,
+  @NotBlank String field71,
+  @NotBlank String field72,
+  @NotBlank String field73,
+  @NotBlank String field74,
+  @NotBlank String field75,
+  @NotBlank String field76,
+  @NotBlank String field77,
+  @NotBlank String field78,
+  @NotBlank String field79,
+  @NotBlank String field80,
+  @NotBlank String field81,
+  @NotBlank String field82,
+  @NotBlank String field83,
+  @NotBlank String field84,
+  @NotBlank String field85,
+  @NotBlank String field86,
+  @NotBlank String field87,
+  @NotBlank String field88,
+  @NotBlank String field89,
+  @NotBlank String field90,
+  @NotBlank String field91,
+  @NotBlank String field92,
+  @NotBlank String field93,
+  @NotBlank String field94,
+  @NotBlank String field95,
+  @NotBlank String field96,
+  @NotBlank String field97,
+  @NotBlank String field98,
+  @NotBlank String field99,
+  @NotBlank String field100,
+  @NotBlank String field101,
+  @NotBlank String field102,
+  @NotBlank String field103,
+  @NotBlank String field104,
+  @NotBlank String field105,
+  @NotBlank String field106,
+  @NotBlank String field107,
+  @NotBlank String field108,
+  @NotBlank String field109,
+  @NotBlank String field110,
+  @NotBlank String field111,
+  @NotBlank String field112,
+  @NotBlank String field113,
+  @NotBlank String field114,
+  @NotBlank String field115,
+  @NotBlank String field116,
+  @NotBlank String field117,
+  @NotBlank String field118,
+  @NotBlank String field119,
+  @NotBlank String field120,
+  @NotBlank String field121,
+  @NotBlank String field122,
+  @NotBlank String field123,
+  @NotBlank String field124,
+  @NotBlank String field125,
+  @NotBlank String field126,
+  @NotBlank String field127,
+  @NotBlank String field128,
+  @NotBlank String field129,
+  @NotBlank String field130,
+  @NotBlank String field131,
+  @NotBlank String field132,
+  @NotBlank String field133,
+  @NotBlank String field134,
+  @NotBlank String field135,
+  @NotBlank String field136,
+  @NotBlank String field137,
+  @NotBlank String field138,
+  @NotBlank String field139,
+  @NotBlank String field140,
+  @NotBlank String field141,
+  @NotBlank String field142,
+  @NotBlank String field143,
+  @NotBlank String field144,
+  @NotBlank String field145,
+  @NotBlank String field146,
+  @NotBlank String field147,
+  @NotBlank String field148,
+  @NotBlank String field149,
+  @NotBlank String field150,
+  @NotBlank String field151,
+  @NotBlank String field152,
+  @NotBlank String field153,
+  @NotBlank String field154,
+  @NotBlank String field155,
+  @NotBlank String field156,
+  @NotBlank String field157,
+  @NotBlank String field158,
+  @NotBlank String field159,
+  @NotBlank String field160,
+  @NotBlank String field161,
+  @NotBlank String field162,
+  @NotBlank String field163,
+  @NotBlank String field164,
+  @NotBlank String field165,
+  @NotBlank String field166,
+  @NotBlank String field167,
+  @NotBlank String field168,
+  @NotBlank String field169,
+  @NotBlank String field170,
+  @NotBlank String field171,
+  @NotBlank String field172,
+  @NotBlank String field173,
+  @NotBlank String field174,
+  @NotBlank String field175,
+  @NotBlank String field176,
+  @NotBlank String field177,
+  @NotBlank String field178,
+  @NotBlank String field179,
+  @NotBlank String field180) {}
@@ -1,7 +1,59 @@
 package io.avaje.validation;
 
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
 /**
  * Describes a constraint violation. This object exposes the constraint violation context as well as
  * the message describing the violation.
+ *
+ * <p>The constraint annotation type, message key and attributes can be used to map the violation
+ * to an error code, along with the invalid value. When messages are deferred the message is the
+ * message key, use {@link Validator#message(ConstraintViolation, java.util.Locale)} to interpolate
+ * it.
+ *
+ * <p>Equality uses the path, field and message key only, such that the same violation reported
+ * twice is deduplicated without interpolating the message or hashing the invalid value.
+ *
+ * @param path The path of the property that failed the constraint
+ * @param field The name of the property that failed the constraint
+ * @param message The interpolated message, or the message key when messages are deferred
+ * @param annotationType The constraint annotation type, null when not known (e.g. custom adapters)
+ * @param messageKey The message template or resource bundle key like {@code
+ *     {avaje.NotBlank.message}}
+ * @param attributes The attributes of the constraint annotation
+ * @param invalidValue The value that failed the constraint, null when not known
  */
-public record ConstraintViolation(String path, String field, String message) {}
+public record ConstraintViolation(
+    String path,
+    String field,
+    String message,
+    @Nullable Class<? extends Annotation> annotationType,
+    String messageKey,
+    Map<String, Object> attributes,
+    @Nullable Object invalidValue) {
+
+  /** Create with the path, field and message. */
+  public ConstraintViolation(String path, String field, String message) {
+    this(path, field, message, null, message, Map.of(), null);
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    return obj instanceof final ConstraintViolation other
+        && Objects.equals(path, other.path)
+        && Objects.equals(field, other.field)
+        && Objects.equals(messageKey, other.messageKey);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(path, field, messageKey);
+  }
+}
@@ -9,16 +9,57 @@ public final class ConstraintViolationException extends RuntimeException {
 
   @Serial
   private static final long serialVersionUID = 1L;
+  private static final int MAX_MESSAGE_VIOLATIONS = 10;
   private final transient Set<ConstraintViolation> violations;
   private final transient List<Class<?>> groups;
+  private transient String message;
 
   /** Create with the given constraint violations */
   public ConstraintViolationException(String message, Set<ConstraintViolation> violations, List<Class<?>> groups) {
     super(message);
+    this.message = message;
     this.violations = violations;
     this.groups = groups;
   }
 
+  /**
+   * Create with the given constraint violations. The message summarising the violations is built
+   * on the first call to {@link #getMessage()}.
+   *
+   * @param violations The constraint violations
+   * @param groups The groups used for validation
+   * @param writableStackTrace False to create the exception without capturing a stack trace
+   */
+  public ConstraintViolationException(
+      Set<ConstraintViolation> violations, List<Class<?>> groups, boolean writableStackTrace) {
+    super(null, null, true, writableStackTrace);
+    this.violations = violations;
+    this.groups = groups;
+  }
+
+  @Override
+  public String getMessage() {
+    String result = message;
+    if (result == null) {
+      result = summary(violations);
+      message = result;
+    }
+    return result;
+  }
+
+  private static String summary(Set<ConstraintViolation> violations) {
+    final var msg = new StringBuilder(100);
+    msg.append(violations.size()).append(" constraint violation(s) occurred.");
+    violations.stream()
+        .limit(MAX_MESSAGE_VIOLATIONS)
+        .forEach(cv -> msg.append("\n ").append(cv.path()).append(": ").append(cv.message()));
+    final int others = violations.size() - MAX_MESSAGE_VIOLATIONS;
+    if (others > 0) {
+      msg.append("\n and ").append(others).append(" other error(s)");
+    }
+    return msg.toString();
+  }
+
   /** Return the constraint violations. */
   public Set<ConstraintViolation> violations() {
     return violations;
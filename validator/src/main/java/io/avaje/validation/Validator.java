@@ -5,20 +5,25 @@ import java.lang.reflect.Type;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
 import io.avaje.validation.adapter.ValidationAdapter;
 import io.avaje.validation.adapter.ValidationContext;
+import io.avaje.validation.adapter.ValidationRequest;
 import io.avaje.validation.adapter.ValidationContext.AdapterCreateRequest;
 import io.avaje.validation.core.DefaultBootstrap;
 import io.avaje.validation.spi.AdapterFactory;
 import io.avaje.validation.spi.AnnotationFactory;
 import io.avaje.validation.spi.MessageInterpolator;
 import io.avaje.validation.spi.ValidatorCustomizer;
+import io.avaje.validation.spi.ViolationSink;
 
 /**
  * Validate plain Java objects that have been annotated with validation constraints.
@@ -88,9 +93,242 @@ public interface Validator {
    */
   Set<ConstraintViolation> check(Object any, @Nullable Locale locale, @Nullable Class<?>... groups);
 
+  /**
+   * Validate the object passing each constraint violation to the sink as it is detected. The
+   * violations are not collected or deduplicated, so memory use does not grow with the number of
+   * violations.
+   *
+   * @param any The object to validate
+   * @param sink The sink receiving the constraint violations
+   * @param groups The groups targeted for validation
+   *
+   * @return The number of constraint violations
+   */
+  int checkTo(Object any, ViolationSink sink, @Nullable Class<?>... groups);
+
+  /**
+   * Validate the object passing each constraint violation to the sink as it is detected.
+   *
+   * @param any The object to validate
+   * @param sink The sink receiving the constraint violations
+   * @param locale The locale to use for constraint messages
+   * @param groups The groups targeted for validation
+   *
+   * @return The number of constraint violations
+   */
+  int checkTo(Object any, ViolationSink sink, @Nullable Locale locale, @Nullable Class<?>... groups);
+
+  /**
+   * Validate the object returning at most the given number of constraint violations. Validation
+   * stops once that number of violations have been detected.
+   *
+   * @param any The object to validate
+   * @param maxViolations The maximum number of violations to detect
+   * @param groups The groups targeted for validation
+   *
+   * @return The first constraint violations
+   */
+  Set<ConstraintViolation> checkFirst(Object any, int maxViolations, @Nullable Class<?>... groups);
+
+  /**
+   * Validate the object returning the constraint violations without interpolating the messages.
+   * The message of each violation is its message key, so mapping violations to codes via {@link
+   * ConstraintViolation#annotationType()}, {@link ConstraintViolation#messageKey()} and {@link
+   * ConstraintViolation#attributes()} has no message cost. Use {@link #message(ConstraintViolation,
+   * Locale)} to interpolate the message of a violation when needed.
+   *
+   * @param any The object to validate
+   * @param groups The groups targeted for validation
+   *
+   * @return The constraint violations
+   */
+  Set<ConstraintViolation> checkDeferred(Object any, @Nullable Class<?>... groups);
+
+  /**
+   * Validate the object returning the constraint violations without interpolating the messages.
+   *
+   * @param any The object to validate
+   * @param locale The locale of the request
+   * @param groups The groups targeted for validation
+   *
+   * @return The constraint violations
+   */
+  Set<ConstraintViolation> checkDeferred(Object any, @Nullable Locale locale, @Nullable Class<?>... groups);
+
+  /**
+   * Interpolate the message of a violation, typically one created with deferred messages.
+   *
+   * @param violation The constraint violation
+   * @param locale The locale to use for the message
+   * @return The interpolated message
+   */
+  String message(ConstraintViolation violation, @Nullable Locale locale);
+
+  /**
+   * Return true if the object is valid. No violations or messages are created and validation stops
+   * at the first constraint violation, so this is cheaper than {@link #check(Object, Class[])}
+   * when only validity is required.
+   *
+   * @param any The object to validate
+   * @param groups The groups targeted for validation
+   *
+   * @return True if there are no constraint violations
+   */
+  boolean isValid(Object any, @Nullable Class<?>... groups);
+
+  /**
+   * Return a predicate that tests if values are valid using {@link #isValid(Object, Class[])},
+   * for example to filter a stream. Null values are not valid.
+   *
+   * @param groups The groups targeted for validation
+   *
+   * @return The predicate testing validity
+   */
+  <T> Predicate<T> predicate(@Nullable Class<?>... groups);
+
+  /**
+   * Validate only the properties of the updated object that changed compared to the old object
+   * returning the constraint violations. Properties are compared using equals, cascaded properties
+   * are compared by reference. Class level constraints are always validated.
+   *
+   * @param old The previous state of the object, when null the updated object is fully validated
+   * @param updated The object to validate
+   * @param groups The groups targeted for validation
+   *
+   * @return The constraint violations
+   */
+  <T> Set<ConstraintViolation> checkChanged(@Nullable T old, T updated, @Nullable Class<?>... groups);
+
+  /**
+   * Validate only the properties of the updated object that changed compared to the old object
+   * returning the constraint violations.
+   *
+   * @param old The previous state of the object, when null the updated object is fully validated
+   * @param updated The object to validate
+   * @param locale The locale to use for constraint messages
+   * @param groups The groups targeted for validation
+   *
+   * @return The constraint violations
+   */
+  <T> Set<ConstraintViolation> checkChanged(
+      @Nullable T old, T updated, @Nullable Locale locale, @Nullable Class<?>... groups);
+
+  /**
+   * Validate a single property of the object returning the constraint violations. Only the
+   * constraints of that property (including cascaded validation) are executed.
+   *
+   * @param any The object containing the property
+   * @param property The name of the property to validate
+   * @param groups The groups targeted for validation
+   *
+   * @return The constraint violations
+   * @throws IllegalArgumentException when the property is unknown, including when the adapter of
+   *     the type is not generated and so does not support property validation
+   */
+  Set<ConstraintViolation> checkProperty(Object any, String property, @Nullable Class<?>... groups);
+
+  /**
+   * Validate a single property of the object returning the constraint violations.
+   *
+   * @param any The object containing the property
+   * @param property The name of the property to validate
+   * @param locale The locale to use for constraint messages
+   * @param groups The groups targeted for validation
+   *
+   * @return The constraint violations
+   * @throws IllegalArgumentException when the property is unknown, including when the adapter of
+   *     the type is not generated and so does not support property validation
+   */
+  Set<ConstraintViolation> checkProperty(
+      Object any, String property, @Nullable Locale locale, @Nullable Class<?>... groups);
+
+  /**
+   * Validate the value against the constraints of a property of the given type returning the
+   * constraint violations. This does not require an instance of the type, for example to check a
+   * single form field as it changes.
+   *
+   * @param beanType The type declaring the property
+   * @param property The name of the property whose constraints are used
+   * @param value The value to validate
+   * @param groups The groups targeted for validation
+   *
+   * @return The constraint violations
+   * @throws IllegalArgumentException when the property is unknown, including when the adapter of
+   *     the type is not generated and so does not support property validation
+   */
+  Set<ConstraintViolation> checkValue(
+      Class<?> beanType, String property, @Nullable Object value, @Nullable Class<?>... groups);
+
+  /**
+   * Validate the value against the constraints of a property of the given type returning the
+   * constraint violations.
+   *
+   * @param beanType The type declaring the property
+   * @param property The name of the property whose constraints are used
+   * @param value The value to validate
+   * @param locale The locale to use for constraint messages
+   * @param groups The groups targeted for validation
+   *
+   * @return The constraint violations
+   * @throws IllegalArgumentException when the property is unknown, including when the adapter of
+   *     the type is not generated and so does not support property validation
+   */
+  Set<ConstraintViolation> checkValue(
+      Class<?> beanType,
+      String property,
+      @Nullable Object value,
+      @Nullable Locale locale,
+      @Nullable Class<?>... groups);
+
+  /**
+   * Validate the property values held in the map against the constraints of the given type
+   * returning the constraint violations. Only the properties present as keys are validated and
+   * nested maps are validated against cascaded types, for example to validate a JSON PATCH payload
+   * without binding it to the type.
+   *
+   * <p>Values are converted to the property type, widening numbers, and a value that does not fit
+   * the property type is reported as a violation. Collections are validated as values, so a list
+   * of nested maps is not validated against the cascaded type.
+   *
+   * @param beanType The type declaring the properties
+   * @param values The property values keyed by property name
+   * @param groups The groups targeted for validation
+   *
+   * @return The constraint violations
+   * @throws IllegalArgumentException when a property is unknown, including when the adapter of
+   *     the type is not generated and so does not support property validation
+   */
+  Set<ConstraintViolation> checkMap(
+      Class<?> beanType, Map<String, ?> values, @Nullable Class<?>... groups);
+
+  /**
+   * Validate the property values held in the map against the constraints of the given type
+   * returning the constraint violations.
+   *
+   * @param beanType The type declaring the properties
+   * @param values The property values keyed by property name
+   * @param locale The locale to use for constraint messages
+   * @param groups The groups targeted for validation
+   *
+   * @return The constraint violations
+   * @throws IllegalArgumentException when a property is unknown, including when the adapter of
+   *     the type is not generated and so does not support property validation
+   */
+  Set<ConstraintViolation> checkMap(
+      Class<?> beanType,
+      Map<String, ?> values,
+      @Nullable Locale locale,
+      @Nullable Class<?>... groups);
+
   /** Return the validation context used to create adapters */
   ValidationContext context();
 
+  /**
+   * Return the locales that have their message bundles loaded. The bundles of a locale are loaded
+   * when a constraint message is first interpolated for that locale.
+   */
+  Set<Locale> loadedLocales();
+
   /**
    * Return the Builder used to build the Validator.
    *
@@ -110,7 +348,13 @@ public interface Validator {
   /** Build the Validator instance adding ValidationAdapter, Factory or AdapterBuilder. */
   interface Builder {
 
-    /** Add a ValidationAdapter to use for the given type. */
+    /**
+     * Add a ValidationAdapter to use for the given type, taking precedence over a generated adapter.
+     *
+     * <p>When the adapters are generated with the {@code avaje.validation.skipConstraintFree}
+     * processor option, the cascades to types the generator found constraint free are not
+     * generated and an adapter added for such a type is never called.
+     */
     <T> Builder add(Type type, ValidationAdapter<T> adapter);
 
     /** Add a AnnotationValidationAdapter to use for the given type. */
@@ -122,7 +366,11 @@ public interface Validator {
      */
     Builder addResourceBundles(String... bundleName);
 
-    /** Add ResourceBundles for error message interpolation */
+    /**
+     * Add ResourceBundles for error message interpolation. A bundle with the base bundle name and
+     * locale of a named bundle (like the message bundles precompiled by the generator) is used
+     * instead of loading that bundle.
+     */
     Builder addResourceBundles(ResourceBundle... bundle);
 
     /** Set Default Locale for this validator. If not set, will use Locale.getDefault() */
@@ -147,11 +395,78 @@ public interface Validator {
 
     /**
      * Enable/Disable fail fast mode. When fail fast is enabled the validation will stop on the
-     * first constraint violation detected.
+     * first constraint violation detected. This is the same as {@code maxViolations(1)}.
      */
     Builder failFast(boolean failFast);
 
-    /** Add a AdapterBuilder which provides a ValidationAdapter to use for the given type. */
+    /**
+     * Stop validation once the given number of constraint violations have been detected. Defaults
+     * to 0 which means no limit. Validation stops without throwing an exception, so {@code check}
+     * returns the violations detected and {@code validate} throws with them.
+     */
+    Builder maxViolations(int maxViolations);
+
+    /**
+     * Enable/Disable tracking of visited instances. When enabled each instance is validated at most
+     * once per validation request even when it is reachable via multiple cascaded properties.
+     * Instances of types that participate in a cascade cycle are always tracked.
+     */
+    Builder trackVisited(boolean trackVisited);
+
+    /**
+     * Enable/Disable deferred messages. When enabled violations are created without interpolating
+     * the message, the message of the violation is the message key. Use this when violations are
+     * mapped to codes via the annotation type, message key and attributes, and {@link
+     * Validator#message(ConstraintViolation, Locale)} to interpolate a message when needed.
+     */
+    Builder deferMessages(boolean deferMessages);
+
+    /**
+     * Enable/Disable capturing the stack trace of ConstraintViolationException. Defaults to true.
+     * Disabling this makes throwing the exception cheap, for example when invalid requests are
+     * common and the stack trace is not logged.
+     */
+    Builder exceptionStackTrace(boolean exceptionStackTrace);
+
+    /**
+     * Validate the elements of collections and arrays that have at least the given number of
+     * elements in parallel using fork/join subtasks. Defaults to 0 which disables parallel
+     * validation. Parallel validation is not used in fail fast mode.
+     */
+    Builder parallelThreshold(int threshold);
+
+    /**
+     * Set the factory creating the requests used by {@code validate} and {@code check}, for
+     * example to handle violations differently from the default request which collects them into a
+     * Set. Containers are only validated in parallel by requests implementing {@link
+     * ValidationRequest.Parallel}.
+     */
+    Builder requestFactory(ValidationRequest.Factory requestFactory);
+
+    /** Set the pool used for parallel validation of large containers. Defaults to the common pool. */
+    Builder parallelPool(ForkJoinPool pool);
+
+    /**
+     * Cache the instances of the given types that pass validation, and skip validating the same
+     * instance again for the same groups. Cached instances are compared by identity and held
+     * weakly.
+     *
+     * <p>Only use this for instances that are not changed once validated and types whose validity
+     * can not change, for example types without temporal constraints like Past or Future.
+     */
+    Builder cacheValid(Class<?>... types);
+
+    /**
+     * Like {@link #cacheValid(Class[])} but equal instances share the cached result. Only use this
+     * for immutable types (typically records with immutable components) whose equals compares
+     * all the validated state.
+     */
+    Builder cacheValidImmutable(Class<?>... types);
+
+    /**
+     * Add a AdapterBuilder which provides a ValidationAdapter to use for the given type, see
+     * {@link #add(Type, ValidationAdapter)} for types that are generated constraint free.
+     */
     Builder add(Type type, AdapterBuilder builder);
 
     /**
@@ -162,7 +477,10 @@ public interface Validator {
     /** Add a Component which can provide multiple ValidationAdapters and or configuration. */
     Builder add(ValidatorCustomizer component);
 
-    /** Add a ValidationAdapter.Factory which provides ValidationAdapters to use. */
+    /**
+     * Add a ValidationAdapter.Factory which provides ValidationAdapters to use, see {@link
+     * #add(Type, ValidationAdapter)} for types that are generated constraint free.
+     */
     Builder add(AdapterFactory factory);
 
     /** Add a ValidationAdapter.Factory which provides ValidationAdapters to use. */
@@ -31,7 +31,7 @@ public abstract class AbstractConstraintAdapter<T> implements ValidationAdapter<
       return true;
     }
     if (!isValid(value)) {
-      req.addViolation(message, propertyName);
+      req.addViolation(message, propertyName, value);
       return false;
     }
     return true;
@@ -9,8 +9,11 @@ final class ArrayValidationAdapter<T> extends ContainerAdapter<T> {
   @Override
   public boolean validate(T value, ValidationRequest req, String propertyName) {
     if (initalAdapter.validate(value, req, propertyName)) {
-
-      validateArray((Object[]) value, req, propertyName);
+      if (value instanceof final Object[] array) {
+        validateArray(array, req, propertyName);
+      } else {
+        validateBoxedArray(value, req, propertyName);
+      }
     }
     return true;
   }
@@ -0,0 +1,46 @@
+package io.avaje.validation.adapter;
+
+import java.util.Arrays;
+
+/**
+ * Applies a flat array of adapters in sequence, with the semantics of nested {@code andThen}
+ * adapters: an adapter is skipped when the adapter before it ran and reported a violation, and the
+ * composite reports a violation when the last adapter ran and reported one. Composing with {@code
+ * andThen} appends to the array rather than nesting adapters.
+ */
+final class CompositeAdapter<T> implements ValidationAdapter<T> {
+
+  private final ValidationAdapter<? super T>[] adapters;
+
+  private CompositeAdapter(ValidationAdapter<? super T>[] adapters) {
+    this.adapters = adapters;
+  }
+
+  /**
+   * Return the composite of the first adapter followed by the after adapter. A composite after
+   * adapter is kept as a single adapter as it is skipped as a whole.
+   */
+  static <T> ValidationAdapter<T> of(ValidationAdapter<T> first, ValidationAdapter<? super T> after) {
+    final ValidationAdapter<? super T>[] head = adapters(first);
+    final ValidationAdapter<? super T>[] all = Arrays.copyOf(head, head.length + 1);
+    all[head.length] = after;
+    return new CompositeAdapter<>(all);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ValidationAdapter<? super T>[] adapters(ValidationAdapter<T> adapter) {
+    if (adapter instanceof final CompositeAdapter<T> composite) {
+      return composite.adapters;
+    }
+    return (ValidationAdapter<? super T>[]) new ValidationAdapter<?>[] {adapter};
+  }
+
+  @Override
+  public boolean validate(T value, ValidationRequest req, String propertyName) {
+    boolean valid = true;
+    for (final ValidationAdapter<? super T> adapter : adapters) {
+      valid = !valid || adapter.validate(value, req, propertyName);
+    }
+    return valid;
+  }
+}
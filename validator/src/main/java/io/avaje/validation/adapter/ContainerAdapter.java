@@ -1,5 +1,15 @@
 package io.avaje.validation.adapter;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * Adapter that validates container types.
  *
@@ -7,11 +17,16 @@ package io.avaje.validation.adapter;
  */
 public abstract class ContainerAdapter<T> implements ValidationAdapter<T> {
 
+  /** Number of subtasks per thread used to balance the load of parallel validation */
+  private static final int SUBTASKS_PER_THREAD = 4;
+
   /** Adapter placed on the container type */
   protected final ValidationAdapter<T> initalAdapter;
 
   protected ValidationAdapter<Object> multiAdapter;
 
+  protected ValidationAdapter.Primitive primitiveMultiAdapter;
+
   /** @param initialAdapter initial adapter that can be used to validate the container itself */
   protected ContainerAdapter(ValidationAdapter<T> initialAdapter) {
     this.initalAdapter = initialAdapter;
@@ -30,7 +45,18 @@ public abstract class ContainerAdapter<T> implements ValidationAdapter<T> {
     return this;
   }
 
+  /**
+   * Compose the given primitive adapter with the primitiveMultiAdapter of this ContainerAdapter for
+   * validating the elements of a primitive array.
+   */
+  public ContainerAdapter<T> andThenMulti(ValidationAdapter.Primitive adapter) {
+    this.primitiveMultiAdapter =
+        this.primitiveMultiAdapter != null ? primitiveMultiAdapter.andThen(adapter) : adapter;
+    return this;
+  }
+
   /** Execute validations for all items in the given iterable */
+  @SuppressWarnings("unchecked")
   protected void validateAll(Iterable<Object> value, ValidationRequest req, String propertyName) {
     if (value == null || multiAdapter == null) {
       return;
@@ -38,10 +64,24 @@ public abstract class ContainerAdapter<T> implements ValidationAdapter<T> {
     if (propertyName != null) {
       req.pushPath(propertyName);
     }
-    int index = 0;
-    for (final var element : value) {
-      multiAdapter.validate(element, req, "[" + index);
-      index++;
+    final ForkJoinPool pool =
+        value instanceof final Collection<?> collection ? parallelPool(req, collection.size()) : null;
+    if (pool != null) {
+      validateParallel(asRandomAccess((Collection<Object>) value), pool, (ValidationRequest.Parallel) req);
+    } else if (value instanceof final List<Object> list && value instanceof RandomAccess) {
+      // indexed loop avoids the iterator allocation
+      for (int index = 0, size = list.size(); index < size && !req.stopped(); index++) {
+        multiAdapter.validate(list.get(index), req, "[" + index);
+      }
+    } else {
+      int index = 0;
+      for (final var element : value) {
+        if (req.stopped()) {
+          break;
+        }
+        multiAdapter.validate(element, req, "[" + index);
+        index++;
+      }
     }
     if (propertyName != null) {
       req.popPath();
@@ -56,13 +96,147 @@ public abstract class ContainerAdapter<T> implements ValidationAdapter<T> {
     if (propertyName != null) {
       req.pushPath(propertyName);
     }
-    int index = 0;
-    for (final Object element : value) {
-      multiAdapter.validate(element, req, "[" + index);
-      index++;
+    final ForkJoinPool pool = parallelPool(req, value.length);
+    if (pool != null) {
+      validateParallel(Arrays.asList(value), pool, (ValidationRequest.Parallel) req);
+    } else {
+      for (int index = 0; index < value.length && !req.stopped(); index++) {
+        multiAdapter.validate(value[index], req, "[" + index);
+      }
+    }
+    if (propertyName != null) {
+      req.popPath();
+    }
+  }
+
+  /** Return the pool to validate the elements in parallel, null for sequential validation. */
+  private static ForkJoinPool parallelPool(ValidationRequest req, int size) {
+    return req instanceof final ValidationRequest.Parallel parallel ? parallel.parallelPool(size) : null;
+  }
+
+  /**
+   * Validate the elements using fork/join subtasks. Each subtask validates a range of the elements
+   * using a forked request and the violations are joined back in element order.
+   */
+  private void validateParallel(List<Object> elements, ForkJoinPool pool, ValidationRequest.Parallel req) {
+    final int size = elements.size();
+    final int subtasks = SUBTASKS_PER_THREAD * pool.getParallelism();
+    final int chunkSize = Math.max(1, (size + subtasks - 1) / subtasks);
+    final List<ElementsTask> tasks = new ArrayList<>(subtasks);
+    for (int from = 0; from < size; from += chunkSize) {
+      final int to = Math.min(size, from + chunkSize);
+      tasks.add(new ElementsTask(elements, from, to, multiAdapter, req.fork()));
+    }
+    pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    for (final ElementsTask task : tasks) {
+      req.join(task.request);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Object> asRandomAccess(Collection<Object> collection) {
+    if (collection instanceof RandomAccess && collection instanceof List) {
+      return (List<Object>) collection;
+    }
+    return Arrays.asList(collection.toArray());
+  }
+
+  /** Execute validations for all elements of the given primitive array without boxing them */
+  protected void validatePrimitiveArray(Object value, ValidationRequest req, String propertyName) {
+    if (value == null || primitiveMultiAdapter == null) {
+      return;
+    }
+    if (propertyName != null) {
+      req.pushPath(propertyName);
+    }
+    final ValidationAdapter.Primitive adapter = primitiveMultiAdapter;
+    if (value instanceof final int[] array) {
+      for (int i = 0; i < array.length && !req.stopped(); i++) {
+        adapter.validate(array[i], req, "[" + i);
+      }
+    } else if (value instanceof final long[] array) {
+      for (int i = 0; i < array.length && !req.stopped(); i++) {
+        adapter.validate(array[i], req, "[" + i);
+      }
+    } else if (value instanceof final double[] array) {
+      for (int i = 0; i < array.length && !req.stopped(); i++) {
+        adapter.validate(array[i], req, "[" + i);
+      }
+    } else if (value instanceof final float[] array) {
+      for (int i = 0; i < array.length && !req.stopped(); i++) {
+        adapter.validate(array[i], req, "[" + i);
+      }
+    } else if (value instanceof final short[] array) {
+      for (int i = 0; i < array.length && !req.stopped(); i++) {
+        adapter.validate(array[i], req, "[" + i);
+      }
+    } else if (value instanceof final byte[] array) {
+      for (int i = 0; i < array.length && !req.stopped(); i++) {
+        adapter.validate(array[i], req, "[" + i);
+      }
+    } else if (value instanceof final char[] array) {
+      for (int i = 0; i < array.length && !req.stopped(); i++) {
+        adapter.validate(array[i], req, "[" + i);
+      }
+    } else if (value instanceof final boolean[] array) {
+      for (int i = 0; i < array.length && !req.stopped(); i++) {
+        adapter.validate(array[i], req, "[" + i);
+      }
+    }
+    if (propertyName != null) {
+      req.popPath();
+    }
+  }
+
+  /**
+   * Validate the elements of a primitive array with the object element adapter, boxing each element.
+   * Used when the element constraints of a primitive array are not all primitive constraints.
+   */
+  protected void validateBoxedArray(Object value, ValidationRequest req, String propertyName) {
+    if (value == null || multiAdapter == null) {
+      return;
+    }
+    if (propertyName != null) {
+      req.pushPath(propertyName);
+    }
+    final int length = Array.getLength(value);
+    for (int i = 0; i < length && !req.stopped(); i++) {
+      multiAdapter.validate(Array.get(value, i), req, "[" + i);
     }
     if (propertyName != null) {
       req.popPath();
     }
   }
+
+  /** Validates a range of the elements using its own request. */
+  private static final class ElementsTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<Object> elements;
+    private final int from;
+    private final int to;
+    private final transient ValidationAdapter<Object> adapter;
+    private final transient ValidationRequest request;
+
+    ElementsTask(
+        List<Object> elements,
+        int from,
+        int to,
+        ValidationAdapter<Object> adapter,
+        ValidationRequest request) {
+      this.elements = elements;
+      this.from = from;
+      this.to = to;
+      this.adapter = adapter;
+      this.request = request;
+    }
+
+    @Override
+    protected void compute() {
+      for (int index = from; index < to && !request.stopped(); index++) {
+        adapter.validate(elements.get(index), request, "[" + index);
+      }
+    }
+  }
 }
@@ -16,14 +16,52 @@ final class MapValidationAdapter<T> extends ContainerAdapter<T> {
   public boolean validate(T value, ValidationRequest req, String propertyName) {
     final var map = (Map<Object, Object>) value;
 
-    if (initalAdapter.validate(value, req, propertyName)) {
+    if (!keys && initalAdapter instanceof final MapValidationAdapter<T> keyAdapter && keyAdapter.keys) {
+      // both keys and values are constrained, validate them in a single pass over the entries
+      if (keyAdapter.initalAdapter.validate(value, req, propertyName)) {
+        validateEntries(map, keyAdapter.multiAdapter, multiAdapter, req, propertyName);
+      }
+    } else if (initalAdapter.validate(value, req, propertyName)) {
       if (keys) {
-        validateAll(map.keySet(), req, propertyName);
+        validateEntries(map, multiAdapter, null, req, propertyName);
       } else {
-        validateAll(map.values(), req, propertyName);
+        validateEntries(map, null, multiAdapter, req, propertyName);
       }
     }
 
     return true;
   }
+
+  /** Validate the keys and/or values of the map using the key as the path of each entry */
+  private static void validateEntries(
+      Map<Object, Object> map,
+      ValidationAdapter<Object> keyAdapter,
+      ValidationAdapter<Object> valueAdapter,
+      ValidationRequest req,
+      String propertyName) {
+    if (map == null || (keyAdapter == null && valueAdapter == null)) {
+      return;
+    }
+    if (propertyName != null) {
+      req.pushPath(propertyName);
+    }
+    for (final var entry : map.entrySet()) {
+      if (req.stopped()) {
+        break;
+      }
+      final var key = entry.getKey();
+      // the key path [key] is only built when a violation is added for the entry
+      req.pushKey(key);
+      if (keyAdapter != null) {
+        keyAdapter.validate(key, req, null);
+      }
+      if (valueAdapter != null) {
+        valueAdapter.validate(entry.getValue(), req, null);
+      }
+      req.popPath();
+    }
+    if (propertyName != null) {
+      req.popPath();
+    }
+  }
 }
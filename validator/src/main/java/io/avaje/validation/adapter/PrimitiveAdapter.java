@@ -57,7 +57,7 @@ public abstract class PrimitiveAdapter<T> extends AbstractConstraintAdapter<T>
       return true;
     }
     if (!isValid(value)) {
-      req.addViolation(message, propertyName);
+      req.addViolation(message, propertyName, value);
       return false;
     }
     return true;
@@ -69,7 +69,7 @@ public abstract class PrimitiveAdapter<T> extends AbstractConstraintAdapter<T>
       return true;
     }
     if (!isValid(value)) {
-      req.addViolation(message, propertyName);
+      req.addViolation(message, propertyName, value);
       return false;
     }
     return true;
@@ -81,7 +81,7 @@ public abstract class PrimitiveAdapter<T> extends AbstractConstraintAdapter<T>
       return true;
     }
     if (!isValid(value)) {
-      req.addViolation(message, propertyName);
+      req.addViolation(message, propertyName, value);
       return false;
     }
     return true;
@@ -93,7 +93,7 @@ public abstract class PrimitiveAdapter<T> extends AbstractConstraintAdapter<T>
       return true;
     }
     if (!isValid(value)) {
-      req.addViolation(message, propertyName);
+      req.addViolation(message, propertyName, value);
       return false;
     }
     return true;
@@ -105,7 +105,7 @@ public abstract class PrimitiveAdapter<T> extends AbstractConstraintAdapter<T>
       return true;
     }
     if (!isValid(value)) {
-      req.addViolation(message, propertyName);
+      req.addViolation(message, propertyName, value);
       return false;
     }
     return true;
@@ -117,7 +117,7 @@ public abstract class PrimitiveAdapter<T> extends AbstractConstraintAdapter<T>
       return true;
     }
     if (!isValid(value)) {
-      req.addViolation(message, propertyName);
+      req.addViolation(message, propertyName, value);
       return false;
     }
     return true;
@@ -129,7 +129,7 @@ public abstract class PrimitiveAdapter<T> extends AbstractConstraintAdapter<T>
       return true;
     }
     if (!isValid(value)) {
-      req.addViolation(message, propertyName);
+      req.addViolation(message, propertyName, value);
       return false;
     }
     return true;
@@ -141,7 +141,7 @@ public abstract class PrimitiveAdapter<T> extends AbstractConstraintAdapter<T>
       return true;
     }
     if (!isValid(value)) {
-      req.addViolation(message, propertyName);
+      req.addViolation(message, propertyName, value);
       return false;
     }
     return true;
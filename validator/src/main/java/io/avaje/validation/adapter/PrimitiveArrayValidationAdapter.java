@@ -0,0 +1,17 @@
+package io.avaje.validation.adapter;
+
+final class PrimitiveArrayValidationAdapter<T> extends ContainerAdapter<T> {
+
+  PrimitiveArrayValidationAdapter(ValidationAdapter<T> adapters) {
+    super(adapters);
+  }
+
+  @Override
+  public boolean validate(T value, ValidationRequest req, String propertyName) {
+    if (initalAdapter.validate(value, req, propertyName)) {
+
+      validatePrimitiveArray(value, req, propertyName);
+    }
+    return true;
+  }
+}
@@ -0,0 +1,106 @@
+package io.avaje.validation.adapter;
+
+import java.util.Arrays;
+
+/**
+ * Applies a flat array of primitive adapters in sequence without boxing the value, with the same
+ * semantics as {@link CompositeAdapter}.
+ */
+final class PrimitiveCompositeAdapter implements ValidationAdapter.Primitive {
+
+  private final ValidationAdapter.Primitive[] adapters;
+
+  private PrimitiveCompositeAdapter(ValidationAdapter.Primitive[] adapters) {
+    this.adapters = adapters;
+  }
+
+  /**
+   * Return the composite of the first adapter followed by the after adapter. A composite after
+   * adapter is kept as a single adapter as it is skipped as a whole.
+   */
+  static ValidationAdapter.Primitive of(ValidationAdapter.Primitive first, ValidationAdapter.Primitive after) {
+    final ValidationAdapter.Primitive[] head = adapters(first);
+    final ValidationAdapter.Primitive[] all = Arrays.copyOf(head, head.length + 1);
+    all[head.length] = after;
+    return new PrimitiveCompositeAdapter(all);
+  }
+
+  private static ValidationAdapter.Primitive[] adapters(ValidationAdapter.Primitive adapter) {
+    if (adapter instanceof final PrimitiveCompositeAdapter composite) {
+      return composite.adapters;
+    }
+    return new ValidationAdapter.Primitive[] {adapter};
+  }
+
+  @Override
+  public boolean validate(boolean value, ValidationRequest req, String propertyName) {
+    boolean valid = true;
+    for (final ValidationAdapter.Primitive adapter : adapters) {
+      valid = !valid || adapter.validate(value, req, propertyName);
+    }
+    return valid;
+  }
+
+  @Override
+  public boolean validate(byte value, ValidationRequest req, String propertyName) {
+    boolean valid = true;
+    for (final ValidationAdapter.Primitive adapter : adapters) {
+      valid = !valid || adapter.validate(value, req, propertyName);
+    }
+    return valid;
+  }
+
+  @Override
+  public boolean validate(char value, ValidationRequest req, String propertyName) {
+    boolean valid = true;
+    for (final ValidationAdapter.Primitive adapter : adapters) {
+      valid = !valid || adapter.validate(value, req, propertyName);
+    }
+    return valid;
+  }
+
+  @Override
+  public boolean validate(double value, ValidationRequest req, String propertyName) {
+    boolean valid = true;
+    for (final ValidationAdapter.Primitive adapter : adapters) {
+      valid = !valid || adapter.validate(value, req, propertyName);
+    }
+    return valid;
+  }
+
+  @Override
+  public boolean validate(float value, ValidationRequest req, String propertyName) {
+    boolean valid = true;
+    for (final ValidationAdapter.Primitive adapter : adapters) {
+      valid = !valid || adapter.validate(value, req, propertyName);
+    }
+    return valid;
+  }
+
+  @Override
+  public boolean validate(int value, ValidationRequest req, String propertyName) {
+    boolean valid = true;
+    for (final ValidationAdapter.Primitive adapter : adapters) {
+      valid = !valid || adapter.validate(value, req, propertyName);
+    }
+    return valid;
+  }
+
+  @Override
+  public boolean validate(long value, ValidationRequest req, String propertyName) {
+    boolean valid = true;
+    for (final ValidationAdapter.Primitive adapter : adapters) {
+      valid = !valid || adapter.validate(value, req, propertyName);
+    }
+    return valid;
+  }
+
+  @Override
+  public boolean validate(short value, ValidationRequest req, String propertyName) {
+    boolean valid = true;
+    for (final ValidationAdapter.Primitive adapter : adapters) {
+      valid = !valid || adapter.validate(value, req, propertyName);
+    }
+    return valid;
+  }
+}
@@ -0,0 +1,30 @@
+package io.avaje.validation.adapter;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Validates the present value of OptionalInt, OptionalLong and OptionalDouble without boxing. A
+ * null or empty optional is valid, null checks of the optional are composed before this adapter.
+ */
+final class PrimitiveOptionalAdapter<T> implements ValidationAdapter<T> {
+
+  private final ValidationAdapter.Primitive adapter;
+
+  PrimitiveOptionalAdapter(ValidationAdapter.Primitive adapter) {
+    this.adapter = adapter;
+  }
+
+  @Override
+  public boolean validate(T value, ValidationRequest req, String propertyName) {
+    if (value instanceof final OptionalInt i) {
+      return i.isEmpty() || adapter.validate(i.getAsInt(), req, propertyName);
+    } else if (value instanceof final OptionalLong l) {
+      return l.isEmpty() || adapter.validate(l.getAsLong(), req, propertyName);
+    } else if (value instanceof final OptionalDouble d) {
+      return d.isEmpty() || adapter.validate(d.getAsDouble(), req, propertyName);
+    }
+    return true;
+  }
+}
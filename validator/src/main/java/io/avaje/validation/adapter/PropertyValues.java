@@ -0,0 +1,124 @@
+package io.avaje.validation.adapter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Converts the untyped property values of {@code checkValue} and {@code checkMap} to the type of
+ * the property for generated adapters. Numbers are widened to the number type of the property, a
+ * value that does not fit the property type is reported as a violation rather than failing with a
+ * ClassCastException.
+ */
+public final class PropertyValues {
+
+  /** Returned when the value did not fit the property type and a violation was added. */
+  public static final Object INVALID = new Object();
+
+  private static final ValidationContext.Message NULL_PRIMITIVE =
+      new TypeMessage("{avaje.NotNull.message}", Map.of());
+
+  private PropertyValues() {}
+
+  /**
+   * Return the value as the given property type, or {@link #INVALID} after adding a violation when
+   * the value does not fit the type.
+   *
+   * @param value The untyped property value
+   * @param type The type of the property, a primitive type for primitive properties
+   * @param req The validation request
+   * @param propertyName The name of the property
+   * @return The value of the property type or INVALID
+   */
+  public static @Nullable Object convert(
+      @Nullable Object value, Class<?> type, ValidationRequest req, String propertyName) {
+    if (value == null) {
+      if (type.isPrimitive()) {
+        req.addViolation(NULL_PRIMITIVE, propertyName, null);
+        return INVALID;
+      }
+      return null;
+    }
+    final Class<?> boxed = boxed(type);
+    if (boxed.isInstance(value)) {
+      return value;
+    }
+    if (value instanceof final Number number) {
+      final Object widened = widen(number, boxed);
+      if (widened != null) {
+        return widened;
+      }
+    }
+    final var attributes = Map.<String, Object>of("type", type.getSimpleName());
+    req.addViolation(new TypeMessage("{avaje.Type.message}", attributes), propertyName, value);
+    return INVALID;
+  }
+
+  /** Return the number as the given number type when this does not lose precision, else null. */
+  private static @Nullable Object widen(Number number, Class<?> type) {
+    final boolean integral =
+        number instanceof Integer
+            || number instanceof Long
+            || number instanceof Short
+            || number instanceof Byte;
+    if (type == Long.class) {
+      return integral ? number.longValue() : null;
+    } else if (type == Integer.class) {
+      return integral && fits(number, Integer.MIN_VALUE, Integer.MAX_VALUE) ? number.intValue() : null;
+    } else if (type == Short.class) {
+      return integral && fits(number, Short.MIN_VALUE, Short.MAX_VALUE) ? number.shortValue() : null;
+    } else if (type == Byte.class) {
+      return integral && fits(number, Byte.MIN_VALUE, Byte.MAX_VALUE) ? number.byteValue() : null;
+    } else if (type == Double.class) {
+      return integral || number instanceof Float ? number.doubleValue() : null;
+    } else if (type == BigInteger.class) {
+      return integral ? BigInteger.valueOf(number.longValue()) : null;
+    } else if (type == BigDecimal.class) {
+      if (integral) {
+        return BigDecimal.valueOf(number.longValue());
+      } else if (number instanceof final BigInteger bigInteger) {
+        return new BigDecimal(bigInteger);
+      } else if (number instanceof Double || number instanceof Float) {
+        return new BigDecimal(number.toString());
+      }
+    }
+    return null;
+  }
+
+  private static boolean fits(Number number, long min, long max) {
+    final long value = number.longValue();
+    return value >= min && value <= max;
+  }
+
+  private static Class<?> boxed(Class<?> type) {
+    if (!type.isPrimitive()) {
+      return type;
+    } else if (type == int.class) {
+      return Integer.class;
+    } else if (type == long.class) {
+      return Long.class;
+    } else if (type == double.class) {
+      return Double.class;
+    } else if (type == boolean.class) {
+      return Boolean.class;
+    } else if (type == float.class) {
+      return Float.class;
+    } else if (type == short.class) {
+      return Short.class;
+    } else if (type == byte.class) {
+      return Byte.class;
+    }
+    return Character.class;
+  }
+
+  private record TypeMessage(String template, Map<String, Object> attributes)
+      implements ValidationContext.Message {
+
+    @Override
+    public String lookupkey() {
+      return template + attributes.getOrDefault("type", "");
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package io.avaje.validation.adapter;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -34,7 +35,79 @@ public interface ValidationAdapter<T> {
     return validate(value, req, null);
   }
 
-  /** Return a primitive adapter. Supports int, long with Range, Min, Max, Positive. */
+  /**
+   * Execute the validations for the properties of the value that changed compared to the old
+   * value. Generated bean adapters implement this comparing scalar properties using equals and
+   * cascaded properties by reference, class level constraints are always validated. By default
+   * all validations are executed.
+   *
+   * @param old The previous value
+   * @param value The value to be validated
+   * @param req The validation request containing group/locale/violation information
+   * @return {@code true} if validation should continue, {@code false} otherwise
+   */
+  default boolean validateChanged(T old, T value, ValidationRequest req) {
+    return validate(value, req, null);
+  }
+
+  /**
+   * Execute the validations of a single property of the given bean. Generated bean adapters
+   * implement this dispatching on the property name. By default every property is unknown, as
+   * for hand-written and container adapters.
+   *
+   * @param value The bean containing the property
+   * @param property The name of the property to validate
+   * @param req The validation request containing group/locale/violation information
+   * @return {@code true} if validation should continue, {@code false} otherwise
+   * @throws IllegalArgumentException when the property is unknown
+   */
+  default boolean validateProperty(T value, String property, ValidationRequest req) {
+    throw new IllegalArgumentException("Unknown property " + property);
+  }
+
+  /**
+   * Execute the validations of a single property against the given value, without requiring an
+   * instance of the bean. Generated bean adapters implement this dispatching on the property name.
+   * By default every property is unknown, as for hand-written and container adapters.
+   *
+   * @param propertyValue The value to validate as the property
+   * @param property The name of the property whose constraints are used
+   * @param req The validation request containing group/locale/violation information
+   * @return {@code true} if validation should continue, {@code false} otherwise
+   * @throws IllegalArgumentException when the property is unknown
+   */
+  default boolean validateValue(Object propertyValue, String property, ValidationRequest req) {
+    throw new IllegalArgumentException("Unknown property " + property);
+  }
+
+  /**
+   * Execute the validations of the properties present as keys in the given map, where the map
+   * holds the property values of a bean (for example a JSON PATCH payload). Nested maps are
+   * validated against the properties of cascaded beans.
+   *
+   * @param values The property values keyed by property name
+   * @param req The validation request containing group/locale/violation information
+   * @param propertyName The name of the property being validated
+   * @return {@code true} if validation should continue, {@code false} otherwise
+   * @throws IllegalArgumentException when a property is unknown
+   */
+  default boolean validateMap(Map<String, ?> values, ValidationRequest req, String propertyName) {
+    if (propertyName != null) {
+      req.pushPath(propertyName);
+    }
+    for (final var entry : values.entrySet()) {
+      validateValue(entry.getValue(), entry.getKey(), req);
+    }
+    if (propertyName != null) {
+      req.popPath();
+    }
+    return true;
+  }
+
+  /**
+   * Return a primitive adapter. Supports the primitive types with AssertTrue, AssertFalse, NotNull,
+   * Range, Min, Max, DecimalMin, DecimalMax, Digits, Positive and Negative.
+   */
   default Primitive primitive() {
     throw new UnsupportedOperationException();
   }
@@ -75,6 +148,16 @@ public interface ValidationAdapter<T> {
     return new ArrayValidationAdapter<>(this);
   }
 
+  /**
+   * Create an adapter for validating the elements of a primitive array like {@code int[]} or
+   * {@code double[]} without boxing the elements.
+   *
+   * @return The adapter for primitive array validation
+   */
+  default ContainerAdapter<T> primitiveArray() {
+    return new PrimitiveArrayValidationAdapter<>(this);
+  }
+
   /**
    * Create an adapter for validating an optional value.
    *
@@ -86,6 +169,7 @@ public interface ValidationAdapter<T> {
 
   /**
    * Compose this validation adapter with another adapter by applying the validations in sequence.
+   * The after adapter is skipped when this adapter reports a violation.
    *
    * @param after The validation adapter to be applied after this adapter
    * @return The composed validation adapter
@@ -93,12 +177,7 @@ public interface ValidationAdapter<T> {
    */
   default ValidationAdapter<T> andThen(ValidationAdapter<? super T> after) {
     Objects.requireNonNull(after, "after cannot be null");
-    return (value, req, propertyName) -> {
-      if (validate(value, req, propertyName)) {
-        return after.validate(value, req, propertyName);
-      }
-      return true;
-    };
+    return CompositeAdapter.of(this, after);
   }
 
   /**
@@ -145,5 +224,28 @@ public interface ValidationAdapter<T> {
 
     /** Validate using primitive short. */
     boolean validate(short value, ValidationRequest req, String propertyName);
+
+    /**
+     * Compose this primitive adapter with another primitive adapter by applying the validations in
+     * sequence without boxing the value.
+     *
+     * @param after The primitive adapter to be applied after this adapter
+     * @return The composed primitive adapter
+     * @throws NullPointerException if {@code after} is null
+     */
+    default Primitive andThen(Primitive after) {
+      Objects.requireNonNull(after, "after cannot be null");
+      return PrimitiveCompositeAdapter.of(this, after);
+    }
+
+    /**
+     * Create an adapter for validating the present value of an {@code OptionalInt}, {@code
+     * OptionalLong} or {@code OptionalDouble} using this primitive adapter (without boxing).
+     *
+     * @return The adapter for primitive optional value validation
+     */
+    default <T> ValidationAdapter<T> optionalAdapter() {
+      return new PrimitiveOptionalAdapter<>(this);
+    }
   }
 }
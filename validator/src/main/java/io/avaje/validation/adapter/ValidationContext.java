@@ -82,6 +82,20 @@ public interface ValidationContext {
    */
   Message message(String message, Map<String, Object> attributes);
 
+  /**
+   * Create a message for the given constraint annotation using the given template. Used by
+   * generated adapters that check built-in constraints inline rather than via a constraint adapter.
+   *
+   * @param annotationType The constraint annotation type
+   * @param template The message template or key
+   * @param attributes The attributes associated with the annotation
+   * @return The message object
+   */
+  default Message message(
+      Class<? extends Annotation> annotationType, String template, Map<String, Object> attributes) {
+    return message(template, attributes);
+  }
+
   /**
    * Create a validation request with the specified locale and groups.
    *
@@ -115,6 +129,15 @@ public interface ValidationContext {
      * @return The template for the message + a unique number for deduplication purposes.
      */
     String lookupkey();
+
+    /**
+     * Get the constraint annotation type the message is for.
+     *
+     * @return The annotation type or null when not known
+     */
+    default @Nullable Class<? extends Annotation> annotationType() {
+      return null;
+    }
   }
   /** Request to create a Validation Adapter. */
   interface AdapterCreateRequest {
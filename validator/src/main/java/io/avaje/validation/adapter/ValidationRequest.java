@@ -1,10 +1,15 @@
 package io.avaje.validation.adapter;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jspecify.annotations.Nullable;
 
 import io.avaje.validation.ConstraintViolation;
 import io.avaje.validation.ConstraintViolationException;
+import io.avaje.validation.groups.Default;
 
 /** A validation request. */
 public interface ValidationRequest {
@@ -12,6 +17,15 @@ public interface ValidationRequest {
   /** The groups tied to this ValidationRequest */
   List<Class<?>> groups();
 
+  /**
+   * Return true if this request validates the Default group only. Generated adapters use this to
+   * select a validation path specialized for the Default group.
+   */
+  default boolean defaultGroupOnly() {
+    final List<Class<?>> groups = groups();
+    return groups.size() == 1 && groups.get(0) == Default.class;
+  }
+
   /**
    * Add a constraint violation for the given property.
    *
@@ -20,9 +34,30 @@ public interface ValidationRequest {
    */
   void addViolation(ValidationContext.Message message, String propertyName);
 
+  /**
+   * Add a constraint violation for the given property including the value that failed the
+   * constraint.
+   *
+   * @param message The message
+   * @param propertyName The property that failed the constraint
+   * @param invalidValue The value that failed the constraint
+   */
+  default void addViolation(
+      ValidationContext.Message message, String propertyName, @Nullable Object invalidValue) {
+    addViolation(message, propertyName);
+  }
+
   /** Push the nested property path. */
   void pushPath(String path);
 
+  /**
+   * Push the key of a map entry as the nested path. The key is only converted to the path {@code
+   * [key]} by requests that use it, for example when a violation is added for the entry.
+   */
+  default void pushKey(Object key) {
+    pushPath("[" + key);
+  }
+
   /** Pop the nested property path. */
   void popPath();
 
@@ -34,4 +69,74 @@ public interface ValidationRequest {
 
   /** return true if there are violations in this request. */
   boolean hasViolations();
+
+  /** Return the number of violations added to this request. */
+  default int violationCount() {
+    return violations().size();
+  }
+
+  /**
+   * Return true when no further validation is required by this request, for example when only
+   * validity is checked and a violation has been found. Adapters stop traversing properties and
+   * elements when stopped.
+   */
+  default boolean stopped() {
+    return false;
+  }
+
+  /**
+   * Record the value as visited by this request returning false if it was already visited, in which
+   * case the value should not be validated again.
+   *
+   * <p>Values are tracked by identity when the validator is built with {@code trackVisited(true)},
+   * or when {@code cyclic} is true as the type can (possibly) reach itself via cascaded properties.
+   *
+   * <p>A tracked value is validated once per request, also when it is shared rather than part of
+   * a cycle. When the same instance is reached by two paths, its violations are only reported
+   * with the path it is first visited by.
+   *
+   * @param value The value about to be validated
+   * @param cyclic True if the type of the value participates in a cascade cycle
+   * @return false if the value has already been validated by this request
+   */
+  default boolean visit(Object value, boolean cyclic) {
+    return true;
+  }
+
+  /**
+   * A request that supports validating the elements of large containers in parallel. Containers
+   * are validated by the calling thread for requests that do not implement this interface.
+   */
+  interface Parallel extends ValidationRequest {
+
+    /**
+     * Return the pool to use to validate the elements of a container of the given size in
+     * parallel, or null if the elements should be validated by the calling thread.
+     */
+    @Nullable
+    ForkJoinPool parallelPool(int size);
+
+    /**
+     * Create a request with the same groups, locale and current path that is used to validate
+     * part of a container on another thread.
+     */
+    ValidationRequest fork();
+
+    /** Add the violations of a request created via {@link #fork()} to this request. */
+    void join(ValidationRequest forked);
+  }
+
+  /** Creates the requests used by a Validator. */
+  @FunctionalInterface
+  interface Factory {
+
+    /**
+     * Create a validation request.
+     *
+     * @param locale The locale to use for constraint messages
+     * @param groups The groups targeted for validation
+     * @return The validation request
+     */
+    ValidationRequest create(@Nullable Locale locale, List<Class<?>> groups);
+  }
 }
@@ -139,11 +139,15 @@ final class CoreAdapterBuilder {
 
     @Override
     public ValidationContext.Message message() {
-      return ctx.message(attributes);
+      return new DMessage((String) attributes.get("message"), attributes, annotationType);
     }
 
     @Override
     public ValidationContext.Message message(String messageKey, Object... extraKeyValues) {
+      if ((extraKeyValues == null || extraKeyValues.length == 0)
+          && messageKey.equals(attributes.get("message"))) {
+        return message();
+      }
       Map<String, Object> newAttributes = new HashMap<>(attributes);
       newAttributes.put("message", messageKey);
       if (extraKeyValues != null) {
@@ -151,7 +155,7 @@ final class CoreAdapterBuilder {
           newAttributes.put(String.valueOf(extraKeyValues[i]), extraKeyValues[i + 1]);
         }
       }
-      return ctx.message(newAttributes);
+      return new DMessage(messageKey, newAttributes, annotationType);
     }
   }
 }
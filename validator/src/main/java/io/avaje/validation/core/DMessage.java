@@ -2,9 +2,16 @@ package io.avaje.validation.core;
 
 import io.avaje.validation.adapter.ValidationContext;
 
+import java.lang.annotation.Annotation;
 import java.util.Map;
 
-record DMessage(String template, Map<String, Object> attributes, int dedupNumber)
+import org.jspecify.annotations.Nullable;
+
+record DMessage(
+    String template,
+    Map<String, Object> attributes,
+    @Nullable Class<? extends Annotation> annotationType,
+    int dedupNumber)
     implements ValidationContext.Message {
 
   // templates can be the same across multiple adapters
@@ -12,7 +19,14 @@ record DMessage(String template, Map<String, Object> attributes, int dedupNumber
   private static int messageCounter = 0;
 
   DMessage(String template, Map<String, Object> attributes) {
-    this(template, attributes, messageCounter++);
+    this(template, attributes, null);
+  }
+
+  DMessage(
+      String template,
+      Map<String, Object> attributes,
+      @Nullable Class<? extends Annotation> annotationType) {
+    this(template, attributes, annotationType, messageCounter++);
   }
 
   @Override
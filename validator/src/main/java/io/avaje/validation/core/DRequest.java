@@ -1,10 +1,14 @@
 package io.avaje.validation.core;
 
 import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jspecify.annotations.Nullable;
 
@@ -13,25 +17,67 @@ import io.avaje.validation.ConstraintViolationException;
 import io.avaje.validation.adapter.ValidationContext;
 import io.avaje.validation.adapter.ValidationRequest;
 import io.avaje.validation.groups.Default;
+import io.avaje.validation.spi.ViolationSink;
 
-final class DRequest implements ValidationRequest {
+final class DRequest implements ValidationRequest.Parallel {
 
   private static final List<Class<?>> DEFAULT_GROUP = List.of(Default.class);
 
-  private final ArrayDeque<String> pathStack = new ArrayDeque<>();
+  /** The nested paths, a {@link Key} for the entry of a map. */
+  private final ArrayDeque<Object> pathStack = new ArrayDeque<>();
 
   private final Set<ConstraintViolation> violations = new LinkedHashSet<>();
 
   private final DValidator validator;
-  private final boolean failfast;
+  private final int maxViolations;
+  private final boolean deferMessages;
   private final List<Class<?>> groups;
+  private final boolean defaultGroupOnly;
   @Nullable private final Locale locale;
+  private int parallelThreshold;
+  private final boolean trackVisited;
+  private Set<Object> visited;
+  /** Visited instances shared by the request and its forks when validating in parallel. */
+  private Set<Identity> sharedVisited;
+  @Nullable private ViolationSink sink;
+  private int sinkCount;
+  /** Every violation added including duplicates and those dropped once stopped. */
+  private long violationsAdded;
 
   DRequest(DValidator validator, boolean failfast, @Nullable Locale locale, List<Class<?>> groups) {
+    this(validator, failfast ? 1 : validator.maxViolations(), validator.deferMessages(), locale, groups);
+  }
+
+  /**
+   * Create the request.
+   *
+   * @param maxViolations The number of violations after which validation stops, 0 for no limit
+   */
+  DRequest(
+      DValidator validator,
+      int maxViolations,
+      boolean deferMessages,
+      @Nullable Locale locale,
+      List<Class<?>> groups) {
     this.validator = validator;
-    this.failfast = failfast;
+    this.maxViolations = maxViolations;
+    this.deferMessages = deferMessages;
     this.locale = locale;
     this.groups = !groups.isEmpty() ? groups : DEFAULT_GROUP;
+    this.defaultGroupOnly = this.groups.size() == 1 && this.groups.get(0) == Default.class;
+    // the first violations must be found in order, so no parallel validation when limited
+    this.parallelThreshold = maxViolations > 0 ? 0 : validator.parallelThreshold();
+    this.trackVisited = validator.trackVisited();
+  }
+
+  /**
+   * Pass the violations to the sink rather than collecting them. Parallel validation is not used
+   * such that the sink is called by the validating thread in order.
+   */
+  DRequest sink(ViolationSink sink) {
+    this.sink = sink;
+    this.parallelThreshold = 0;
+    return this;
   }
 
   private String currentPath() {
@@ -41,7 +87,12 @@ final class DRequest implements ValidationRequest {
     final StringBuilder sb = new StringBuilder(70);
     final var descendingIterator = pathStack.descendingIterator();
     while (descendingIterator.hasNext()) {
-      final String next = descendingIterator.next();
+      final Object element = descendingIterator.next();
+      if (element instanceof final Key key) {
+        sb.append('[').append(key.key()).append(']');
+        continue;
+      }
+      final String next = (String) element;
       if (next.charAt(0) == '[') {
         sb.append(next).append(']');
       } else {
@@ -56,14 +107,58 @@ final class DRequest implements ValidationRequest {
 
   @Override
   public void addViolation(ValidationContext.Message msg, String propertyName) {
-    final String message = validator.interpolate(msg, locale);
-    final String field = field(propertyName);
-    violations.add(new ConstraintViolation(currentPath() + field, field, message));
-    if (failfast) {
-      throwWithViolations();
+    addViolation(msg, propertyName, null);
+  }
+
+  @Override
+  public void addViolation(
+      ValidationContext.Message msg, String propertyName, @Nullable Object invalidValue) {
+    violationsAdded++;
+    if (stopped()) {
+      // adapters composed with the one that reached the limit can still add violations
+      return;
+    }
+    final ConstraintViolation violation;
+    if (propertyName == null && pathStack.peek() instanceof final Key key) {
+      // constraint on the key or value of a map entry
+      pathStack.pop();
+      final String field = "[" + key.key();
+      violation = violation(msg, path(field), field, invalidValue);
+      pathStack.push(key);
+    } else {
+      final String field = field(propertyName);
+      violation = violation(msg, path(field), field, invalidValue);
+    }
+    if (sink != null) {
+      sinkCount++;
+      sink.accept(violation);
+    } else {
+      violations.add(violation);
     }
   }
 
+  private ConstraintViolation violation(
+      ValidationContext.Message msg, String path, String field, @Nullable Object invalidValue) {
+    // deferred messages are not interpolated, the message is the message key
+    return new ConstraintViolation(
+        path,
+        field,
+        deferMessages ? msg.template() : validator.interpolate(msg, locale),
+        msg.annotationType(),
+        msg.template(),
+        msg.attributes(),
+        invalidValue);
+  }
+
+  private String path(String field) {
+    final String path = currentPath();
+    if (!path.isEmpty() && !field.isEmpty() && field.charAt(0) == '[') {
+      // container element like tasks[1] or crew[key]
+      return path.substring(0, path.length() - 1) + field + ']';
+    }
+    return path + field;
+  }
+
   private String field(String propertyName) {
     return propertyName == null ? "" : propertyName;
   }
@@ -73,6 +168,11 @@ final class DRequest implements ValidationRequest {
     pathStack.push(path);
   }
 
+  @Override
+  public void pushKey(Object key) {
+    pathStack.push(new Key(key));
+  }
+
   @Override
   public void popPath() {
     pathStack.pop();
@@ -81,21 +181,72 @@ final class DRequest implements ValidationRequest {
   @Override
   public void throwWithViolations() {
     if (!violations.isEmpty()) {
-      throw new ConstraintViolationException(message(), violations, groups);
+      throw new ConstraintViolationException(violations, groups, validator.exceptionStackTrace());
+    }
+  }
+
+  @Override
+  public boolean stopped() {
+    return maxViolations > 0 && violationCount() >= maxViolations;
+  }
+
+  @Override
+  public boolean visit(Object value, boolean cyclic) {
+    if (!cyclic && !trackVisited) {
+      return true;
+    }
+    if (sharedVisited != null) {
+      return sharedVisited.add(new Identity(value));
+    }
+    if (visited == null) {
+      visited = Collections.newSetFromMap(new IdentityHashMap<>());
     }
+    return visited.add(value);
   }
 
-  private String message() {
-    final var msg = new StringBuilder(100);
-    msg.append(violations.size()).append(" constraint violation(s) occurred.");
-    violations.stream()
-        .limit(10)
-        .forEach(cv -> msg.append("\n ").append(cv.path()).append(": ").append(cv.message()));
-    final int others = violations.size() - 10;
-    if (others > 0) {
-      msg.append("\n and ").append(others).append(" other error(s)");
+  /**
+   * Return the number of violations added to this request, unlike the violations this includes
+   * violations equal to one already added.
+   */
+  long violationsAdded() {
+    return violationsAdded;
+  }
+
+  /** Return true if the instance has already been visited by this request. */
+  boolean visited(Object value) {
+    if (sharedVisited != null) {
+      return sharedVisited.contains(new Identity(value));
+    }
+    return visited != null && visited.contains(value);
+  }
+
+  @Override
+  public @Nullable ForkJoinPool parallelPool(int size) {
+    return parallelThreshold > 0 && size >= parallelThreshold ? validator.parallelPool() : null;
+  }
+
+  @Override
+  public ValidationRequest fork() {
+    final var forked = new DRequest(validator, 0, deferMessages, locale, groups);
+    forked.pathStack.addAll(pathStack);
+    if (sharedVisited == null) {
+      // from now on this request and its forks share the visited instances
+      sharedVisited = ConcurrentHashMap.newKeySet();
+      if (visited != null) {
+        for (final Object value : visited) {
+          sharedVisited.add(new Identity(value));
+        }
+        visited = null;
+      }
     }
-    return msg.toString();
+    forked.sharedVisited = sharedVisited;
+    return forked;
+  }
+
+  @Override
+  public void join(ValidationRequest forked) {
+    violations.addAll(forked.violations());
+    violationsAdded += ((DRequest) forked).violationsAdded;
   }
 
   @Override
@@ -108,6 +259,28 @@ final class DRequest implements ValidationRequest {
     return groups;
   }
 
+  @Override
+  public boolean defaultGroupOnly() {
+    return defaultGroupOnly;
+  }
+
+  /** Compares the value by identity for the concurrent set of visited instances. */
+  private record Identity(Object value) {
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof final Identity identity && identity.value == value;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(value);
+    }
+  }
+
+  /** The key of a map entry, converted to its path only when used. */
+  private record Key(Object key) {}
+
   @Override
   public String toString() {
     return violations.toString();
@@ -115,6 +288,11 @@ final class DRequest implements ValidationRequest {
 
   @Override
   public boolean hasViolations() {
-    return !violations.isEmpty();
+    return violationCount() > 0;
+  }
+
+  @Override
+  public int violationCount() {
+    return sink != null ? sinkCount : violations.size();
   }
 }
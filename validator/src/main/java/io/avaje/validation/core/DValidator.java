@@ -19,6 +19,8 @@ import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
@@ -33,6 +35,7 @@ import io.avaje.validation.spi.AnnotationFactory;
 import io.avaje.validation.spi.GeneratedComponent;
 import io.avaje.validation.spi.MessageInterpolator;
 import io.avaje.validation.spi.ValidatorCustomizer;
+import io.avaje.validation.spi.ViolationSink;
 
 /** Default implementation of Validator. */
 final class DValidator implements Validator, ValidationContext {
@@ -44,7 +47,14 @@ final class DValidator implements Validator, ValidationContext {
   private final LocaleResolver localeResolver;
   private final TemplateLookup templateLookup;
   private final Map<String, String> messageCache = new ConcurrentHashMap<>();
-  private final boolean failfast;
+  private final int maxViolations;
+  private final ValidationRequest.@Nullable Factory requestFactory;
+  private final boolean trackVisited;
+  private final boolean deferMessages;
+  private final boolean exceptionStackTrace;
+  private final int parallelThreshold;
+  private final ForkJoinPool parallelPool;
+  private final Map<Class<?>, KnownValidAdapter.Cache> knownValid;
 
   DValidator(
       List<AdapterFactory> factories,
@@ -55,7 +65,14 @@ final class DValidator implements Validator, ValidationContext {
       LocaleResolver localeResolver,
       Supplier<Clock> clockSupplier,
       Duration temporalTolerance,
-      boolean failfast) {
+      int maxViolations,
+      boolean trackVisited,
+      boolean deferMessages,
+      boolean exceptionStackTrace,
+      int parallelThreshold,
+      ForkJoinPool parallelPool,
+      ValidationRequest.@Nullable Factory requestFactory,
+      Map<Class<?>, Boolean> cacheValidTypes) {
     this.localeResolver = localeResolver;
     final var defaultResourceBundle =
         new ResourceBundleManager(bundleNames, bundles, localeResolver);
@@ -64,13 +81,49 @@ final class DValidator implements Validator, ValidationContext {
     this.builder =
         new CoreAdapterBuilder(
             this, factories, annotationFactories, clockSupplier, temporalTolerance);
-    this.failfast = failfast;
+    this.maxViolations = maxViolations;
+    this.requestFactory = requestFactory;
+    this.trackVisited = trackVisited;
+    this.deferMessages = deferMessages;
+    this.exceptionStackTrace = exceptionStackTrace;
+    this.parallelThreshold = parallelThreshold;
+    this.parallelPool = parallelPool;
+    this.knownValid = new HashMap<>();
+    for (final var entry : cacheValidTypes.entrySet()) {
+      knownValid.put(entry.getKey(), new KnownValidAdapter.Cache(entry.getValue()));
+    }
   }
 
   MessageInterpolator interpolator() {
     return this.interpolator;
   }
 
+  /** The number of violations after which validation stops, 0 for no limit. */
+  int maxViolations() {
+    return maxViolations;
+  }
+
+  boolean trackVisited() {
+    return trackVisited;
+  }
+
+  boolean deferMessages() {
+    return deferMessages;
+  }
+
+  boolean exceptionStackTrace() {
+    return exceptionStackTrace;
+  }
+
+  /** The minimum container size for parallel validation, 0 when disabled. */
+  int parallelThreshold() {
+    return parallelThreshold;
+  }
+
+  ForkJoinPool parallelPool() {
+    return parallelPool;
+  }
+
   @Override
   public void validate(Object any, @Nullable Class<?>... groups) {
     validate(any, null, groups);
@@ -95,11 +148,129 @@ final class DValidator implements Validator, ValidationContext {
     return type.check(any, locale, List.of(groups));
   }
 
+  @Override
+  public int checkTo(Object any, ViolationSink sink, @Nullable Class<?>... groups) {
+    return checkTo(any, sink, null, groups);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public int checkTo(Object any, ViolationSink sink, @Nullable Locale locale, @Nullable Class<?>... groups) {
+    final var type = (ValidationType<Object>) type(any.getClass());
+    final var request = new DRequest(this, false, locale, List.of(groups)).sink(requireNonNull(sink));
+    return type.count(any, request);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Set<ConstraintViolation> checkFirst(Object any, int maxViolations, @Nullable Class<?>... groups) {
+    final var type = (ValidationType<Object>) type(any.getClass());
+    return type.check(any, new DRequest(this, maxViolations, deferMessages, null, List.of(groups)));
+  }
+
+  @Override
+  public Set<ConstraintViolation> checkDeferred(Object any, @Nullable Class<?>... groups) {
+    return checkDeferred(any, null, groups);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Set<ConstraintViolation> checkDeferred(Object any, @Nullable Locale locale, @Nullable Class<?>... groups) {
+    final var type = (ValidationType<Object>) type(any.getClass());
+    return type.check(any, new DRequest(this, maxViolations, true, locale, List.of(groups)));
+  }
+
+  @Override
+  public String message(ConstraintViolation violation, @Nullable Locale locale) {
+    final Locale resolved = localeResolver.resolve(locale);
+    final String template = templateLookup.lookup(violation.messageKey(), resolved);
+    return interpolator.interpolate(template, violation.attributes());
+  }
+
+  @Override
+  public boolean isValid(Object any, @Nullable Class<?>... groups) {
+    return isValid(any, List.of(groups));
+  }
+
+  @Override
+  public <T> Predicate<T> predicate(@Nullable Class<?>... groups) {
+    final var groupList = List.of(groups);
+    return any -> any != null && isValid(any, groupList);
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean isValid(Object any, List<Class<?>> groups) {
+    final var type = (ValidationType<Object>) type(any.getClass());
+    return type.isValid(any, new DValidityRequest(this, groups));
+  }
+
+  @Override
+  public <T> Set<ConstraintViolation> checkChanged(T old, T updated, @Nullable Class<?>... groups) {
+    return checkChanged(old, updated, null, groups);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> Set<ConstraintViolation> checkChanged(
+      T old, T updated, @Nullable Locale locale, @Nullable Class<?>... groups) {
+    final var type = (ValidationType<T>) type(updated.getClass());
+    return type.checkChanged(old, updated, locale, List.of(groups));
+  }
+
+  @Override
+  public Set<ConstraintViolation> checkProperty(Object any, String property, @Nullable Class<?>... groups) {
+    return checkProperty(any, property, null, groups);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Set<ConstraintViolation> checkProperty(
+      Object any, String property, @Nullable Locale locale, @Nullable Class<?>... groups) {
+    final var type = (ValidationType<Object>) type(any.getClass());
+    return type.checkProperty(any, property, locale, List.of(groups));
+  }
+
+  @Override
+  public Set<ConstraintViolation> checkValue(
+      Class<?> beanType, String property, @Nullable Object value, @Nullable Class<?>... groups) {
+    return checkValue(beanType, property, value, null, groups);
+  }
+
+  @Override
+  public Set<ConstraintViolation> checkValue(
+      Class<?> beanType,
+      String property,
+      @Nullable Object value,
+      @Nullable Locale locale,
+      @Nullable Class<?>... groups) {
+    return type(beanType).checkValue(value, property, locale, List.of(groups));
+  }
+
+  @Override
+  public Set<ConstraintViolation> checkMap(
+      Class<?> beanType, Map<String, ?> values, @Nullable Class<?>... groups) {
+    return checkMap(beanType, values, null, groups);
+  }
+
+  @Override
+  public Set<ConstraintViolation> checkMap(
+      Class<?> beanType,
+      Map<String, ?> values,
+      @Nullable Locale locale,
+      @Nullable Class<?>... groups) {
+    return type(beanType).checkMap(values, locale, List.of(groups));
+  }
+
   @Override
   public ValidationContext context() {
     return this;
   }
 
+  @Override
+  public Set<Locale> loadedLocales() {
+    return templateLookup.loadedLocales();
+  }
+
   private <T> ValidationType<T> type(Class<T> cls) {
     return typeWithCache(cls);
   }
@@ -123,6 +294,16 @@ final class DValidator implements Validator, ValidationContext {
     return new DMessage(message, attributes);
   }
 
+  @Override
+  public Message message(
+      Class<? extends Annotation> annotationType, String template, Map<String, Object> attributes) {
+    if (!template.equals(attributes.get("message"))) {
+      attributes = new HashMap<>(attributes);
+      attributes.put("message", template);
+    }
+    return new DMessage(template, attributes, annotationType);
+  }
+
   @Override
   public <T> ValidationAdapter<T> adapter(Class<T> cls) {
     final Type cacheKey = canonicalizeClass(requireNonNull(cls));
@@ -130,7 +311,7 @@ final class DValidator implements Validator, ValidationContext {
     if (result != null) {
       return result;
     }
-    return builder.build(cacheKey);
+    return knownValid(cacheKey, builder.build(cacheKey));
   }
 
   @Override
@@ -158,7 +339,13 @@ final class DValidator implements Validator, ValidationContext {
     if (result != null) {
       return result;
     }
-    return builder.build(type, cacheKey);
+    return knownValid(type, builder.build(type, cacheKey));
+  }
+
+  /** Wrap the adapter to skip values already known to be valid when enabled for the type. */
+  private <T> ValidationAdapter<T> knownValid(Type type, ValidationAdapter<T> adapter) {
+    final var known = knownValid.isEmpty() ? null : knownValid.get(type);
+    return known == null ? adapter : new KnownValidAdapter<>(adapter, known);
   }
 
   @Override
@@ -169,7 +356,10 @@ final class DValidator implements Validator, ValidationContext {
 
   @Override
   public ValidationRequest request(@Nullable Locale locale, List<Class<?>> groups) {
-    return new DRequest(this, failfast, locale, groups);
+    if (requestFactory != null) {
+      return requestFactory.create(locale, groups);
+    }
+    return new DRequest(this, false, locale, groups);
   }
 
   String interpolate(Message msg, Locale requestLocale) {
@@ -197,7 +387,16 @@ final class DValidator implements Validator, ValidationContext {
     private Supplier<Clock> clockSupplier = Clock::systemDefaultZone;
     private Duration temporalTolerance = Duration.ZERO;
     private boolean failfast;
+    private int maxViolations;
+    private boolean trackVisited;
+    private boolean deferMessages;
+    private boolean exceptionStackTrace = true;
+    private int parallelThreshold;
+    private ForkJoinPool parallelPool = ForkJoinPool.commonPool();
+    /** The types to cache valid instances of, true when compared by equals. */
+    private final Map<Class<?>, Boolean> cacheValidTypes = new HashMap<>();
     private MessageInterpolator userInterpolator;
+    private ValidationRequest.Factory requestFactory;
 
     @Override
     public Builder add(Type type, AdapterBuilder builder) {
@@ -279,6 +478,64 @@ final class DValidator implements Validator, ValidationContext {
       return this;
     }
 
+    @Override
+    public Builder maxViolations(int maxViolations) {
+      this.maxViolations = maxViolations;
+      return this;
+    }
+
+    @Override
+    public Builder trackVisited(boolean trackVisited) {
+      this.trackVisited = trackVisited;
+      return this;
+    }
+
+    @Override
+    public Builder deferMessages(boolean deferMessages) {
+      this.deferMessages = deferMessages;
+      return this;
+    }
+
+    @Override
+    public Builder exceptionStackTrace(boolean exceptionStackTrace) {
+      this.exceptionStackTrace = exceptionStackTrace;
+      return this;
+    }
+
+    @Override
+    public Builder parallelThreshold(int threshold) {
+      this.parallelThreshold = threshold;
+      return this;
+    }
+
+    @Override
+    public Builder parallelPool(ForkJoinPool pool) {
+      this.parallelPool = requireNonNull(pool);
+      return this;
+    }
+
+    @Override
+    public Builder cacheValid(Class<?>... types) {
+      for (final var type : types) {
+        cacheValidTypes.putIfAbsent(type, false);
+      }
+      return this;
+    }
+
+    @Override
+    public Builder cacheValidImmutable(Class<?>... types) {
+      for (final var type : types) {
+        cacheValidTypes.put(type, true);
+      }
+      return this;
+    }
+
+    @Override
+    public Builder requestFactory(ValidationRequest.Factory requestFactory) {
+      this.requestFactory = requestFactory;
+      return this;
+    }
+
     @Override
     public Builder messageInterpolator(MessageInterpolator interpolator) {
       this.userInterpolator = interpolator;
@@ -314,7 +571,14 @@ final class DValidator implements Validator, ValidationContext {
           localeResolver,
           clockSupplier,
           temporalTolerance,
-          failfast);
+          failfast ? 1 : maxViolations,
+          trackVisited,
+          deferMessages,
+          exceptionStackTrace,
+          parallelThreshold,
+          parallelPool,
+          requestFactory,
+          cacheValidTypes);
     }
 
     private static <T> AnnotationFactory newAnnotationAdapterFactory(
@@ -0,0 +1,103 @@
+package io.avaje.validation.core;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.adapter.ValidationContext;
+import io.avaje.validation.adapter.ValidationRequest;
+import io.avaje.validation.groups.Default;
+
+/**
+ * Request that only determines if the value is valid. No paths, messages or violations are
+ * recorded and the traversal stops at the first violation.
+ */
+final class DValidityRequest implements ValidationRequest {
+
+  private static final List<Class<?>> DEFAULT_GROUP = List.of(Default.class);
+
+  private final List<Class<?>> groups;
+  private final boolean defaultGroupOnly;
+  private final boolean trackVisited;
+  private Set<Object> visited;
+  private boolean invalid;
+
+  DValidityRequest(DValidator validator, List<Class<?>> groups) {
+    this.groups = !groups.isEmpty() ? groups : DEFAULT_GROUP;
+    this.defaultGroupOnly = this.groups.size() == 1 && this.groups.get(0) == Default.class;
+    this.trackVisited = validator.trackVisited();
+  }
+
+  /** Return true if no violation was found. */
+  boolean isValid() {
+    return !invalid;
+  }
+
+  @Override
+  public void addViolation(ValidationContext.Message message, String propertyName) {
+    invalid = true;
+  }
+
+  @Override
+  public boolean stopped() {
+    return invalid;
+  }
+
+  @Override
+  public boolean hasViolations() {
+    return invalid;
+  }
+
+  @Override
+  public int violationCount() {
+    return invalid ? 1 : 0;
+  }
+
+  @Override
+  public void pushPath(String path) {
+    // paths are not required
+  }
+
+  @Override
+  public void pushKey(Object key) {
+    // paths are not required
+  }
+
+  @Override
+  public void popPath() {
+    // paths are not required
+  }
+
+  @Override
+  public void throwWithViolations() {
+    // violations are not recorded
+  }
+
+  @Override
+  public Set<ConstraintViolation> violations() {
+    return Set.of();
+  }
+
+  @Override
+  public boolean visit(Object value, boolean cyclic) {
+    if (!cyclic && !trackVisited) {
+      return true;
+    }
+    if (visited == null) {
+      visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+    return visited.add(value);
+  }
+
+  @Override
+  public List<Class<?>> groups() {
+    return groups;
+  }
+
+  @Override
+  public boolean defaultGroupOnly() {
+    return defaultGroupOnly;
+  }
+}
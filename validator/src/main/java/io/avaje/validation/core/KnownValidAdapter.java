@@ -0,0 +1,146 @@
+package io.avaje.validation.core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.avaje.validation.adapter.ValidationAdapter;
+import io.avaje.validation.adapter.ValidationRequest;
+
+/**
+ * Skips validation of values that are already known to be valid for the groups of the request.
+ *
+ * <p>Values are held weakly, so a cached value is dropped once no longer referenced by the
+ * application. Values are compared by identity, or by equals for types declared immutable.
+ */
+final class KnownValidAdapter<T> implements ValidationAdapter<T> {
+
+  private final ValidationAdapter<T> delegate;
+  private final Cache known;
+
+  KnownValidAdapter(ValidationAdapter<T> delegate, Cache known) {
+    this.delegate = delegate;
+    this.known = known;
+  }
+
+  @Override
+  public boolean validate(T value, ValidationRequest req, String propertyName) {
+    if (value == null || !(req instanceof final DRequest request)) {
+      // only the default request reports the violations added while validating the value
+      return delegate.validate(value, req, propertyName);
+    }
+    final var groups = req.groups();
+    if (known.contains(value, groups)) {
+      return true;
+    }
+    // an instance already visited by this request is skipped without being validated
+    final boolean visited = request.visited(value);
+    final long before = request.violationsAdded();
+    final boolean result = delegate.validate(value, req, propertyName);
+    // a stopped request may have skipped properties of the value
+    if (!visited && request.violationsAdded() == before && !req.stopped()) {
+      known.add(value, groups);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean validateChanged(T old, T value, ValidationRequest req) {
+    return delegate.validateChanged(old, value, req);
+  }
+
+  @Override
+  public boolean validateProperty(T value, String property, ValidationRequest req) {
+    return delegate.validateProperty(value, property, req);
+  }
+
+  @Override
+  public boolean validateValue(Object propertyValue, String property, ValidationRequest req) {
+    return delegate.validateValue(propertyValue, property, req);
+  }
+
+  @Override
+  public boolean validateMap(Map<String, ?> values, ValidationRequest req, String propertyName) {
+    return delegate.validateMap(values, req, propertyName);
+  }
+
+  /**
+   * The values of a type known to be valid, with the group sets they are valid for. Lookups are
+   * lock free and entries of values no longer referenced are removed when values are added.
+   */
+  static final class Cache {
+
+    private final Map<Key, List<List<Class<?>>>> known = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final boolean byValue;
+
+    /** @param byValue True to compare values by equals, for types declared immutable */
+    Cache(boolean byValue) {
+      this.byValue = byValue;
+    }
+
+    boolean contains(Object value, List<Class<?>> groups) {
+      final var knownGroups = known.get(new Key(value, byValue, null));
+      return knownGroups != null && knownGroups.contains(groups);
+    }
+
+    void add(Object value, List<Class<?>> groups) {
+      expunge();
+      known.merge(new Key(value, byValue, queue), List.of(groups), Cache::union);
+    }
+
+    private static List<List<Class<?>>> union(List<List<Class<?>>> known, List<List<Class<?>>> added) {
+      if (known.containsAll(added)) {
+        return known;
+      }
+      final List<List<Class<?>>> groups = new ArrayList<>(known);
+      groups.addAll(added);
+      return List.copyOf(groups);
+    }
+
+    private void expunge() {
+      Object stale;
+      while ((stale = queue.poll()) != null) {
+        known.remove(stale);
+      }
+    }
+  }
+
+  /** Weak reference to the value, compared by identity or by equals. */
+  private static final class Key extends WeakReference<Object> {
+
+    private final int hash;
+    private final boolean byValue;
+
+    Key(Object value, boolean byValue, ReferenceQueue<Object> queue) {
+      super(value, queue);
+      this.byValue = byValue;
+      this.hash = byValue ? value.hashCode() : System.identityHashCode(value);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        // also matches a cleared key when removing it
+        return true;
+      }
+      if (!(obj instanceof final Key other) || other.hash != hash) {
+        return false;
+      }
+      final Object value = get();
+      if (value == null) {
+        return false;
+      }
+      final Object otherValue = other.get();
+      return value == otherValue || (byValue && value.equals(otherValue));
+    }
+  }
+}
@@ -5,55 +5,115 @@ import static java.util.ResourceBundle.getBundle;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 
 import io.avaje.applog.AppLog;
 
+/**
+ * Loads the message bundles of a locale on first use and keeps them as a single immutable map of
+ * the messages, where the first bundle with a key wins.
+ */
 final class ResourceBundleManager {
   private static final System.Logger logger = AppLog.getLogger(ResourceBundleManager.class);
-  private final Map<Locale, List<ResourceBundle>> map = new HashMap<>();
-  private static final List<ResourceBundle> EMPTY = List.of();
   private static final String DEFAULT_BUNDLE = "io.avaje.validation.Messages";
 
+  private final List<String> names;
+  private final List<ResourceBundle> providedBundles;
+  private final Set<Locale> configuredLocales = new HashSet<>();
+  private final Set<Locale> locales = new HashSet<>();
+  private final Map<Locale, Map<String, String>> loaded = new ConcurrentHashMap<>();
+
   ResourceBundleManager(List<String> names, List<ResourceBundle> providedBundles, LocaleResolver localeResolver) {
-    for (final var name : names) {
-      addBundle(name, localeResolver.defaultLocale());
-      for (final Locale locale : localeResolver.otherLocales()) {
-        addBundle(name, locale);
+    this.names = List.copyOf(names);
+    this.providedBundles = List.copyOf(providedBundles);
+    configuredLocales.add(localeResolver.defaultLocale());
+    configuredLocales.addAll(localeResolver.otherLocales());
+    locales.addAll(configuredLocales);
+    for (final var bundle : providedBundles) {
+      if (bundle.getLocale() != null) {
+        locales.add(bundle.getLocale());
+      }
+    }
+  }
+
+  /** Return the locales that have their message bundles loaded. */
+  Set<Locale> loadedLocales() {
+    return Set.copyOf(loaded.keySet());
+  }
+
+  @Nullable
+  public String message(String template, Locale resolvedLocale) {
+    var messages = loaded.get(resolvedLocale);
+    if (messages == null) {
+      if (!locales.contains(resolvedLocale)) {
+        return null;
       }
+      messages = loaded.computeIfAbsent(resolvedLocale, this::load);
     }
+    return messages.get(template);
+  }
 
+  /** Load the bundles of the locale, named bundles first and the default bundle last. */
+  private Map<String, String> load(Locale locale) {
+    final List<ResourceBundle> provided = new ArrayList<>();
     for (final var bundle : providedBundles) {
-      map.computeIfAbsent(bundle.getLocale(), key -> new ArrayList<>()).add(bundle);
+      if (locale.equals(bundle.getLocale())) {
+        provided.add(bundle);
+      }
+    }
+    final List<ResourceBundle> bundles = new ArrayList<>();
+    if (configuredLocales.contains(locale)) {
+      for (final var name : names) {
+        addBundle(name, locale, provided, bundles);
+      }
     }
+    final List<ResourceBundle> precompiledDefaults = new ArrayList<>();
+    for (final var bundle : provided) {
+      if (DEFAULT_BUNDLE.equals(bundle.getBaseBundleName())) {
+        precompiledDefaults.add(bundle);
+      }
+    }
+    provided.removeAll(precompiledDefaults);
+    bundles.addAll(provided);
     // since default is added last, it will be the last place messages will be resolved
-    addBundle(DEFAULT_BUNDLE, localeResolver.defaultLocale());
-    for (final Locale locale : localeResolver.otherLocales()) {
-      addBundle(DEFAULT_BUNDLE, locale);
+    if (configuredLocales.contains(locale)) {
+      addBundle(DEFAULT_BUNDLE, locale, precompiledDefaults, bundles);
     }
-  }
 
-  private void addBundle(final String name, final Locale locale) {
-    try {
-      map.computeIfAbsent(locale, key -> new ArrayList<>()).add(getBundle(name, locale));
-    } catch (MissingResourceException e) {
-      logger.log(ERROR, "failed to load " + name + " with locale " + locale);
+    final Map<String, String> messages = new HashMap<>();
+    for (final var bundle : bundles) {
+      for (final String key : bundle.keySet()) {
+        if (!messages.containsKey(key) && bundle.getObject(key) instanceof final String message) {
+          messages.put(key, message);
+        }
+      }
     }
+    return Map.copyOf(messages);
   }
 
-  @Nullable
-  public String message(String template, Locale resolvedLocale) {
-    for (final var bundle : map.getOrDefault(resolvedLocale, EMPTY)) {
-      if (bundle.containsKey(template)) {
-        return bundle.getString(template);
+  /** Add the bundle using a provided (precompiled) bundle of the same name and locale if there is one. */
+  private static void addBundle(String name, Locale locale, List<ResourceBundle> provided, List<ResourceBundle> bundles) {
+    for (final var iterator = provided.iterator(); iterator.hasNext(); ) {
+      final var bundle = iterator.next();
+      if (name.equals(bundle.getBaseBundleName())) {
+        iterator.remove();
+        bundles.add(bundle);
+        return;
       }
     }
-    return null;
+    try {
+      bundles.add(getBundle(name, locale));
+    } catch (MissingResourceException e) {
+      logger.log(ERROR, "failed to load " + name + " with locale " + locale);
+    }
   }
 }
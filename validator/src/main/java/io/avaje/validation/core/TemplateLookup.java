@@ -1,6 +1,7 @@
 package io.avaje.validation.core;
 
 import java.util.Locale;
+import java.util.Set;
 
 final class TemplateLookup {
   private final ResourceBundleManager bundleManager;
@@ -9,6 +10,10 @@ final class TemplateLookup {
     this.bundleManager = defaultBundle;
   }
 
+  Set<Locale> loadedLocales() {
+    return bundleManager.loadedLocales();
+  }
+
   String lookup(String template, Locale resolvedLocale) {
     if (!isBundleKey(template)) {
       return template;
@@ -2,6 +2,7 @@ package io.avaje.validation.core;
 
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
@@ -31,6 +32,49 @@ final class ValidationType<T> {
     return executeValidations(object, locale, groups).violations();
   }
 
+  Set<ConstraintViolation> check(T object, ValidationRequest req) {
+    adapter.validate(object, req);
+    return req.violations();
+  }
+
+  int count(T object, ValidationRequest req) {
+    adapter.validate(object, req);
+    return req.violationCount();
+  }
+
+  boolean isValid(T object, DValidityRequest req) {
+    adapter.validate(object, req);
+    return req.isValid();
+  }
+
+  Set<ConstraintViolation> checkChanged(
+      T old, T object, @Nullable Locale locale, List<Class<?>> groups) {
+    final var req = ctx.request(locale, groups);
+    adapter.validateChanged(old, object, req);
+    return req.violations();
+  }
+
+  Set<ConstraintViolation> checkProperty(
+      T object, String property, @Nullable Locale locale, List<Class<?>> groups) {
+    final var req = ctx.request(locale, groups);
+    adapter.validateProperty(object, property, req);
+    return req.violations();
+  }
+
+  Set<ConstraintViolation> checkValue(
+      @Nullable Object value, String property, @Nullable Locale locale, List<Class<?>> groups) {
+    final var req = ctx.request(locale, groups);
+    adapter.validateValue(value, property, req);
+    return req.violations();
+  }
+
+  Set<ConstraintViolation> checkMap(
+      Map<String, ?> values, @Nullable Locale locale, List<Class<?>> groups) {
+    final var req = ctx.request(locale, groups);
+    adapter.validateMap(values, req, null);
+    return req.violations();
+  }
+
   private ValidationRequest executeValidations(T object, Locale locale, List<Class<?>> groups) {
     final var req = ctx.request(locale, groups);
     adapter.validate(object, req);
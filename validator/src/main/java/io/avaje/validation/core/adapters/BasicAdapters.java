@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.regex.Pattern;
 
 import io.avaje.validation.adapter.AbstractConstraintAdapter;
@@ -19,9 +20,15 @@ import io.avaje.validation.spi.AnnotationFactory;
 
 public final class BasicAdapters {
   private static final String LENGTH_MAX = "{avaje.Length.max.message}";
+  private static final String ARRAY = "Array";
 
   private BasicAdapters() {}
 
+  /** Return true for a declared array type, "Array" or "Array.[component type]". */
+  private static boolean isArray(String targetType) {
+    return targetType != null && targetType.startsWith(ARRAY);
+  }
+
   public static final AnnotationFactory FACTORY =
       request ->
           switch (request.annotationType().getSimpleName()) {
@@ -33,9 +40,13 @@ public final class BasicAdapters {
             case "AssertTrue" -> new AssertBooleanAdapter(request, true);
             case "AssertFalse" -> new AssertBooleanAdapter(request, false);
             case "NotBlank" -> new NotBlankAdapter(request);
-            case "NotEmpty" -> new NotEmptyAdapter(request);
+            case "NotEmpty" -> isArray(request.targetType())
+                ? new ArrayNotEmptyAdapter(request)
+                : new NotEmptyAdapter(request);
             case "Pattern" -> new PatternAdapter(request);
-            case "Size", "Length" -> new SizeAdapter(request);
+            case "Size", "Length" -> isArray(request.targetType())
+                ? new ArraySizeAdapter(request)
+                : new SizeAdapter(request);
             default -> null;
           };
 
@@ -44,6 +55,9 @@ public final class BasicAdapters {
 
     protected final Predicate<String> pattern;
 
+    /** The ASCII characters matched by a simple character class pattern, otherwise null. */
+    private final boolean[] charClass;
+
     PatternAdapter(AdapterCreateRequest request) {
       this(request, request.attribute("regexp"));
     }
@@ -59,6 +73,60 @@ public final class BasicAdapters {
         }
       }
       this.pattern = Pattern.compile(regex, flags).asMatchPredicate().negate();
+      this.charClass = flags == 0 ? charClass(regex) : null;
+    }
+
+    /**
+     * Return the characters of a pattern like {@code [a-zA-Z0-9_]+} that only matches ASCII
+     * characters from a single character class, otherwise null.
+     */
+    static boolean[] charClass(String regex) {
+      String r = regex;
+      if (r.startsWith("^")) {
+        r = r.substring(1);
+      }
+      if (r.endsWith("$")) {
+        r = r.substring(0, r.length() - 1);
+      }
+      if (r.length() < 4 || r.charAt(0) != '[' || !(r.endsWith("]+") || r.endsWith("]*"))) {
+        return null;
+      }
+      final String body = r.substring(1, r.length() - 2);
+      if (body.startsWith("^")) {
+        return null;
+      }
+      final boolean[] table = new boolean[128];
+      for (int i = 0; i < body.length(); i++) {
+        final char start = body.charAt(i);
+        if (!literal(start)) {
+          return null;
+        }
+        if (i + 2 < body.length() && body.charAt(i + 1) == '-') {
+          final char end = body.charAt(i + 2);
+          if (!literal(end) || end < start) {
+            return null;
+          }
+          for (char c = start; c <= end; c++) {
+            table[c] = true;
+          }
+          i += 2;
+        } else {
+          table[start] = true;
+        }
+      }
+      return table;
+    }
+
+    private Set<Class<?>> groups() {
+      return groups;
+    }
+
+    private ValidationContext.Message message() {
+      return message;
+    }
+
+    private static boolean literal(char c) {
+      return c < 128 && c != '\\' && c != '[' && c != ']' && c != '&';
     }
 
     @Override
@@ -81,17 +149,19 @@ public final class BasicAdapters {
       this.groups = request.groups();
       this.min = request.attribute("min");
       this.max = request.attribute("max");
+      this.message = message(request, min);
+    }
 
+    static ValidationContext.Message message(AdapterCreateRequest request, int min) {
       final Object msgKey = request.attribute("message");
       if (min == 0 && LENGTH.equals(msgKey)) {
-        this.message = request.message(LENGTH_MAX);
+        return request.message(LENGTH_MAX);
       } else if (min == 0 && SIZE.equals(msgKey)) {
-        this.message = request.message(useLength(request) ? LENGTH_MAX : SIZE_MAX);
+        return request.message(useLength(request) ? LENGTH_MAX : SIZE_MAX);
       } else if (SIZE.equals(msgKey) && useLength(request)) {
-        this.message = request.message(LENGTH);
-      } else {
-        this.message = request.message();
+        return request.message(LENGTH);
       }
+      return request.message();
     }
 
     /** Use 'Length' rather than 'Size' for string types */
@@ -105,29 +175,28 @@ public final class BasicAdapters {
       if (value == null || !checkGroups(groups, req)) {
         return true;
       }
-
       if (value instanceof final CharSequence sequence) {
         final var len = sequence.length();
         if (len > max || len < min) {
-          req.addViolation(message, propertyName);
+          req.addViolation(message, propertyName, value);
           return false;
         }
       } else if (value instanceof final Collection<?> col) {
         final var len = col.size();
         if (len > max || len < min) {
-          req.addViolation(message, propertyName);
+          req.addViolation(message, propertyName, value);
           return len > 0;
         }
       } else if (value instanceof final Map<?, ?> map) {
         final var len = map.size();
         if (len > max || len < min) {
-          req.addViolation(message, propertyName);
+          req.addViolation(message, propertyName, value);
           return len > 0;
         }
       } else if (value.getClass().isArray()) {
         final var len = arrayLength(value);
         if (len > max || len < min) {
-          req.addViolation(message, propertyName);
+          req.addViolation(message, propertyName, value);
           return len > 0;
         }
       }
@@ -135,6 +204,80 @@ public final class BasicAdapters {
     }
   }
 
+  /** Size of an array property, the array type is known when the adapter is created. */
+  private static final class ArraySizeAdapter implements ValidationAdapter<Object> {
+
+    private final ValidationContext.Message message;
+    private final Set<Class<?>> groups;
+    private final int min;
+    private final int max;
+    private final ToIntFunction<Object> length;
+
+    ArraySizeAdapter(AdapterCreateRequest request) {
+      this.groups = request.groups();
+      this.length = arrayLength(request.targetType());
+      this.min = request.attribute("min");
+      this.max = request.attribute("max");
+      this.message = SizeAdapter.message(request, min);
+    }
+
+    @Override
+    public boolean validate(Object value, ValidationRequest req, String propertyName) {
+      if (value == null || !checkGroups(groups, req)) {
+        return true;
+      }
+      final int len = length.applyAsInt(value);
+      if (len > max || len < min) {
+        req.addViolation(message, propertyName, value);
+        return len > 0;
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Return the length function for the declared array type, "Array.int" etc. When the component
+   * type is not known the length is read by checking the array type on each call.
+   */
+  private static ToIntFunction<Object> arrayLength(String targetType) {
+    return switch (targetType) {
+      case "Array.Object" -> a -> ((Object[]) a).length;
+      case "Array.int" -> a -> ((int[]) a).length;
+      case "Array.long" -> a -> ((long[]) a).length;
+      case "Array.double" -> a -> ((double[]) a).length;
+      case "Array.byte" -> a -> ((byte[]) a).length;
+      case "Array.char" -> a -> ((char[]) a).length;
+      case "Array.float" -> a -> ((float[]) a).length;
+      case "Array.short" -> a -> ((short[]) a).length;
+      case "Array.boolean" -> a -> ((boolean[]) a).length;
+      default -> BasicAdapters::arrayLength;
+    };
+  }
+
+  /** Return the length of an object or primitive array without reflection. */
+  private static int arrayLength(Object array) {
+    if (array instanceof final Object[] a) {
+      return a.length;
+    } else if (array instanceof final int[] a) {
+      return a.length;
+    } else if (array instanceof final long[] a) {
+      return a.length;
+    } else if (array instanceof final double[] a) {
+      return a.length;
+    } else if (array instanceof final byte[] a) {
+      return a.length;
+    } else if (array instanceof final char[] a) {
+      return a.length;
+    } else if (array instanceof final float[] a) {
+      return a.length;
+    } else if (array instanceof final short[] a) {
+      return a.length;
+    } else if (array instanceof final boolean[] a) {
+      return a.length;
+    }
+    throw new IllegalArgumentException("Not an array " + array.getClass());
+  }
+
   private static final class NotBlankAdapter implements ValidationAdapter<CharSequence> {
 
     private final ValidationContext.Message message;
@@ -168,16 +311,22 @@ public final class BasicAdapters {
         return true;
       }
       if (value == null || isBlank(value)) {
-        req.addViolation(message, propertyName);
+        req.addViolation(message, propertyName, value);
         return false;
       }
       if (maxLength > 0 && value.length() > maxLength) {
-        req.addViolation(maxLengthMessage != null ? maxLengthMessage : message, propertyName);
+        req.addViolation(maxLengthMessage != null ? maxLengthMessage : message, propertyName, value);
         return false;
       }
       return true;
     }
 
+    @Override
+    public ValidationAdapter<CharSequence> andThen(ValidationAdapter<? super CharSequence> after) {
+      final var fused = new FusedStringAdapter(this).fuse(after);
+      return fused != null ? fused : ValidationAdapter.super.andThen(after);
+    }
+
     static boolean isBlank(final CharSequence cs) {
       final int strLen = cs.length();
       if (strLen == 0) {
@@ -192,6 +341,115 @@ public final class BasicAdapters {
     }
   }
 
+  /**
+   * NotBlank composed with Size and a simple character class Pattern, checked in a single pass over
+   * the characters. Violations are the same as applying the adapters in sequence.
+   */
+  private static final class FusedStringAdapter implements ValidationAdapter<CharSequence> {
+
+    private final NotBlankAdapter notBlank;
+    private final SizeAdapter size;
+    private final PatternAdapter pattern;
+
+    FusedStringAdapter(NotBlankAdapter notBlank) {
+      this(notBlank, null, null);
+    }
+
+    private FusedStringAdapter(NotBlankAdapter notBlank, SizeAdapter size, PatternAdapter pattern) {
+      this.notBlank = notBlank;
+      this.size = size;
+      this.pattern = pattern;
+    }
+
+    /** Return the adapter with the given adapter fused or null if it can not be fused. */
+    FusedStringAdapter fuse(ValidationAdapter<?> after) {
+      if (size == null
+          && pattern == null
+          && after instanceof final SizeAdapter sizeAdapter
+          && notBlank.groups.equals(sizeAdapter.groups)) {
+        return new FusedStringAdapter(notBlank, sizeAdapter, null);
+      }
+      if (pattern == null
+          && after instanceof final PatternAdapter patternAdapter
+          && patternAdapter.getClass() == PatternAdapter.class
+          && patternAdapter.charClass != null
+          && notBlank.groups.equals(patternAdapter.groups())) {
+        return new FusedStringAdapter(notBlank, size, patternAdapter);
+      }
+      return null;
+    }
+
+    @Override
+    public ValidationAdapter<CharSequence> andThen(ValidationAdapter<? super CharSequence> after) {
+      final var fused = fuse(after);
+      return fused != null ? fused : ValidationAdapter.super.andThen(after);
+    }
+
+    @Override
+    public boolean validate(CharSequence value, ValidationRequest req, String propertyName) {
+      if (!checkGroups(notBlank.groups, req)) {
+        return true;
+      }
+      final int length = value == null ? 0 : value.length();
+      final boolean[] charClass = pattern == null ? null : pattern.charClass;
+      boolean blank = true;
+      boolean matches = true;
+      for (int i = 0; i < length && (blank || (charClass != null && matches)); i++) {
+        final char c = value.charAt(i);
+        if (blank && !Character.isWhitespace(c)) {
+          blank = false;
+        }
+        if (matches && charClass != null && (c >= 128 || !charClass[c])) {
+          matches = false;
+        }
+      }
+      boolean valid = true;
+      if (blank) {
+        req.addViolation(notBlank.message, propertyName, value);
+        valid = false;
+      } else if (notBlank.maxLength > 0 && length > notBlank.maxLength) {
+        final var message = notBlank.maxLengthMessage != null ? notBlank.maxLengthMessage : notBlank.message;
+        req.addViolation(message, propertyName, value);
+        valid = false;
+      }
+      // as per the adapters in sequence, a check is skipped when the check before it failed
+      if (size != null) {
+        if (valid && (length > size.max || length < size.min)) {
+          req.addViolation(size.message, propertyName, value);
+          valid = false;
+        } else {
+          valid = true;
+        }
+      }
+      if (charClass != null) {
+        // the character class does not tell if the pattern matches an empty value
+        if (valid && (length == 0 ? !pattern.isValid(value) : !matches)) {
+          req.addViolation(pattern.message(), propertyName, value);
+          valid = false;
+        } else {
+          valid = true;
+        }
+      }
+      return valid;
+    }
+  }
+
+  /** NotEmpty of an array property, the array type is known when the adapter is created. */
+  private static final class ArrayNotEmptyAdapter extends AbstractConstraintAdapter<Object> {
+
+    private final ToIntFunction<Object> length;
+
+    ArrayNotEmptyAdapter(AdapterCreateRequest request) {
+      super(request);
+      this.length = arrayLength(request.targetType());
+    }
+
+    @Override
+    public boolean isValid(Object value) {
+      return value != null && length.applyAsInt(value) != 0;
+    }
+  }
+
   private static final class NotEmptyAdapter extends AbstractConstraintAdapter<Object> {
 
     NotEmptyAdapter(AdapterCreateRequest request) {
@@ -235,7 +493,7 @@ public final class BasicAdapters {
     }
   }
 
-  private static final class NullableAdapter extends AbstractConstraintAdapter<Object> {
+  private static final class NullableAdapter extends PrimitiveAdapter<Object> {
 
     private final boolean shouldBeNull;
 
@@ -248,27 +506,47 @@ public final class BasicAdapters {
     public boolean isValid(Object value) {
       return (value == null) == shouldBeNull;
     }
-  }
 
-  private static int arrayLength(Object array) {
-    if (array instanceof final int[] intArr) {
-      return intArr.length;
-    } else if (array instanceof final boolean[] boolArr) {
-      return boolArr.length;
-    } else if (array instanceof final byte[] byteArr) {
-      return byteArr.length;
-    } else if (array instanceof final char[] charArr) {
-      return charArr.length;
-    } else if (array instanceof final short[] shortArr) {
-      return shortArr.length;
-    } else if (array instanceof final float[] floatArr) {
-      return floatArr.length;
-    } else if (array instanceof final double[] doubleArr) {
-      return doubleArr.length;
-    } else if (array instanceof final long[] longArr) {
-      return longArr.length;
-    } else {
-      return ((Object[]) array).length;
+    // primitive values are never null
+
+    @Override
+    public boolean isValid(boolean value) {
+      return !shouldBeNull;
+    }
+
+    @Override
+    public boolean isValid(byte value) {
+      return !shouldBeNull;
+    }
+
+    @Override
+    public boolean isValid(char value) {
+      return !shouldBeNull;
+    }
+
+    @Override
+    public boolean isValid(double value) {
+      return !shouldBeNull;
+    }
+
+    @Override
+    public boolean isValid(float value) {
+      return !shouldBeNull;
+    }
+
+    @Override
+    public boolean isValid(int value) {
+      return !shouldBeNull;
+    }
+
+    @Override
+    public boolean isValid(long value) {
+      return !shouldBeNull;
+    }
+
+    @Override
+    public boolean isValid(short value) {
+      return !shouldBeNull;
     }
   }
 }
@@ -25,7 +25,12 @@ final class DateRangeAdapter extends AbstractConstraintAdapter<Object> {
     max = parsePeriod(request.attribute("max"), false);
   }
 
-  private TemporalAmount parsePeriod(String period, boolean negateTolerance) {
+  private TemporalAmount parsePeriod(Object value, boolean negateTolerance) {
+    if (value instanceof final TemporalAmount amount) {
+      // pre-parsed by the generator
+      return amount;
+    }
+    final String period = (String) value;
     if (period == null || period.isEmpty()) {
       return null;
     }
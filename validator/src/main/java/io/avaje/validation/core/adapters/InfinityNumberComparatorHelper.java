@@ -23,6 +23,30 @@ final class InfinityNumberComparatorHelper {
     return result;
   }
 
+  static OptionalInt infinityCheck(double number, OptionalInt treatNanAs) {
+    OptionalInt result = FINITE_VALUE;
+    if (number == Double.NEGATIVE_INFINITY) {
+      result = LESS_THAN;
+    } else if (Double.isNaN(number)) {
+      result = treatNanAs;
+    } else if (number == Double.POSITIVE_INFINITY) {
+      result = GREATER_THAN;
+    }
+    return result;
+  }
+
+  static OptionalInt infinityCheck(float number, OptionalInt treatNanAs) {
+    OptionalInt result = FINITE_VALUE;
+    if (number == Float.NEGATIVE_INFINITY) {
+      result = LESS_THAN;
+    } else if (Float.isNaN(number)) {
+      result = treatNanAs;
+    } else if (number == Float.POSITIVE_INFINITY) {
+      result = GREATER_THAN;
+    }
+    return result;
+  }
+
   static OptionalInt infinityCheck(Float number, OptionalInt treatNanAs) {
     OptionalInt result = FINITE_VALUE;
     if (number == Float.NEGATIVE_INFINITY) {
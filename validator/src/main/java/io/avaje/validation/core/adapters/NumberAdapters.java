@@ -7,7 +7,9 @@ import static io.avaje.validation.core.adapters.NumberComparatorHelper.compareFl
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import io.avaje.validation.adapter.AbstractConstraintAdapter;
 import io.avaje.validation.adapter.PrimitiveAdapter;
@@ -60,18 +62,27 @@ public final class NumberAdapters {
     };
   }
 
-  private static final class DecimalMaxAdapter extends AbstractConstraintAdapter<Object> {
+  /** Return the value pre-parsed by the generator, or parse the value of a runtime created adapter. */
+  private static BigDecimal decimal(Object value) {
+    return value instanceof final BigDecimal decimal ? decimal : new BigDecimal((String) value);
+  }
+
+  private static final class DecimalMaxAdapter extends PrimitiveAdapter<Object> {
 
     private final BigDecimal value;
     private final boolean inclusive;
     private final String targetType;
+    private final LongBound longBound;
+    private final DoubleBound doubleBound;
 
     DecimalMaxAdapter(AdapterCreateRequest request) {
       super(request);
       final var attributes = request.attributes();
-      this.value = new BigDecimal((String) attributes.get(VALUE));
+      this.value = decimal(attributes.get(VALUE));
       this.inclusive = Optional.ofNullable((Boolean) attributes.get("inclusive")).orElse(true);
       this.targetType = request.targetType();
+      this.longBound = LongBound.max(value, inclusive);
+      this.doubleBound = DoubleBound.of(value);
     }
 
     @Override
@@ -82,22 +93,60 @@ public final class NumberAdapters {
       }
       final int comparisonResult =
           NumberComparatorHelper.compareDecimal(targetType, number, value, LESS_THAN);
+      return withinBound(comparisonResult);
+    }
+
+    private boolean withinBound(int comparisonResult) {
       return !(inclusive ? comparisonResult > 0 : comparisonResult >= 0);
     }
+
+    @Override
+    public boolean isValid(byte number) {
+      return longBound.isValid(number);
+    }
+
+    @Override
+    public boolean isValid(short number) {
+      return longBound.isValid(number);
+    }
+
+    @Override
+    public boolean isValid(int number) {
+      return longBound.isValid(number);
+    }
+
+    @Override
+    public boolean isValid(long number) {
+      return longBound.isValid(number);
+    }
+
+    @Override
+    public boolean isValid(float number) {
+      return withinBound(doubleBound.compare(number));
+    }
+
+    @Override
+    public boolean isValid(double number) {
+      return withinBound(doubleBound.compare(number));
+    }
   }
 
-  private static final class DecimalMinAdapter extends AbstractConstraintAdapter<Object> {
+  private static final class DecimalMinAdapter extends PrimitiveAdapter<Object> {
 
     private final BigDecimal value;
     private final boolean inclusive;
     private final String targetType;
+    private final LongBound longBound;
+    private final DoubleBound doubleBound;
 
     DecimalMinAdapter(AdapterCreateRequest request) {
       super(request);
       final var attributes = request.attributes();
-      this.value = new BigDecimal((String) attributes.get(VALUE));
+      this.value = decimal(attributes.get(VALUE));
       this.inclusive = Optional.ofNullable((Boolean) attributes.get("inclusive")).orElse(true);
       this.targetType = request.targetType();
+      this.longBound = LongBound.min(value, inclusive);
+      this.doubleBound = DoubleBound.of(value);
     }
 
     @Override
@@ -108,8 +157,98 @@ public final class NumberAdapters {
       }
       final int comparisonResult =
           NumberComparatorHelper.compareDecimal(targetType, number, value, LESS_THAN);
+      return withinBound(comparisonResult);
+    }
+
+    private boolean withinBound(int comparisonResult) {
       return !(inclusive ? comparisonResult < 0 : comparisonResult <= 0);
     }
+
+    @Override
+    public boolean isValid(byte number) {
+      return longBound.isValid(number);
+    }
+
+    @Override
+    public boolean isValid(short number) {
+      return longBound.isValid(number);
+    }
+
+    @Override
+    public boolean isValid(int number) {
+      return longBound.isValid(number);
+    }
+
+    @Override
+    public boolean isValid(long number) {
+      return longBound.isValid(number);
+    }
+
+    @Override
+    public boolean isValid(float number) {
+      return withinBound(doubleBound.compare(number));
+    }
+
+    @Override
+    public boolean isValid(double number) {
+      return withinBound(doubleBound.compare(number));
+    }
+  }
+
+  /**
+   * A decimal bound converted once into an integral bound so that primitive integral values are
+   * compared without creating a BigDecimal per value.
+   */
+  private record LongBound(long bound, boolean upper, boolean none) {
+
+    private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+    /** The largest integral value that is less than (or equal to when inclusive) the max. */
+    static LongBound max(BigDecimal max, boolean inclusive) {
+      final BigDecimal bound =
+          inclusive
+              ? max.setScale(0, RoundingMode.FLOOR)
+              : max.setScale(0, RoundingMode.CEILING).subtract(BigDecimal.ONE);
+      return new LongBound(bound.min(LONG_MAX).max(LONG_MIN).longValue(), true, bound.compareTo(LONG_MIN) < 0);
+    }
+
+    /** The smallest integral value that is greater than (or equal to when inclusive) the min. */
+    static LongBound min(BigDecimal min, boolean inclusive) {
+      final BigDecimal bound =
+          inclusive
+              ? min.setScale(0, RoundingMode.CEILING)
+              : min.setScale(0, RoundingMode.FLOOR).add(BigDecimal.ONE);
+      return new LongBound(bound.min(LONG_MAX).max(LONG_MIN).longValue(), false, bound.compareTo(LONG_MAX) > 0);
+    }
+
+    boolean isValid(long value) {
+      // none is true when the bound lies outside the long range such that no long value is valid
+      return !none && (upper ? value <= bound : value >= bound);
+    }
+  }
+
+  /**
+   * A decimal bound converted once into a double so that primitive floating point values are
+   * compared without creating a BigDecimal per value. A bound that is not exactly representable as
+   * a double is compared as a BigDecimal.
+   */
+  private record DoubleBound(double bound, boolean exact, BigDecimal decimal) {
+
+    static DoubleBound of(BigDecimal decimal) {
+      final double bound = decimal.doubleValue();
+      final boolean exact = Double.isFinite(bound) && new BigDecimal(bound).compareTo(decimal) == 0;
+      return new DoubleBound(bound, exact, decimal);
+    }
+
+    /** Compare the value with the bound, NaN compares as less than the bound. */
+    int compare(double value) {
+      if (!exact) {
+        return compareDouble(value, decimal, LESS_THAN);
+      }
+      final OptionalInt infinity = InfinityNumberComparatorHelper.infinityCheck(value, LESS_THAN);
+      return infinity.isPresent() ? infinity.getAsInt() : Double.compare(value, bound);
+    }
   }
 
   public interface NumberAdapter<T extends Number> {
@@ -293,7 +432,7 @@ public final class NumberAdapters {
     }
   }
 
-  private static final class DigitsAdapter extends AbstractConstraintAdapter<Object> {
+  private static final class DigitsAdapter extends PrimitiveAdapter<Object> {
 
     private final int integer;
     private final int fraction;
@@ -310,18 +449,56 @@ public final class NumberAdapters {
       if (value == null) {
         return true;
       }
-
-      BigDecimal bigNum;
       if (value instanceof final BigDecimal bd) {
-        bigNum = bd;
-      } else {
-        bigNum = NumberSignHelper.toBigDecimal(value.toString()).stripTrailingZeros();
+        return isValidDecimal(bd);
       }
+      return isValid(value.toString());
+    }
 
+    private boolean isValid(String value) {
+      return isValidDecimal(NumberSignHelper.toBigDecimal(value).stripTrailingZeros());
+    }
+
+    private boolean isValidDecimal(BigDecimal bigNum) {
       final int integerPartLength = bigNum.precision() - bigNum.scale();
       final int fractionPartLength = Math.max(bigNum.scale(), 0);
       return integer >= integerPartLength && fraction >= fractionPartLength;
     }
+
+    @Override
+    public boolean isValid(byte value) {
+      return isValid((long) value);
+    }
+
+    @Override
+    public boolean isValid(short value) {
+      return isValid((long) value);
+    }
+
+    @Override
+    public boolean isValid(int value) {
+      return isValid((long) value);
+    }
+
+    @Override
+    public boolean isValid(long value) {
+      // integral values have no fraction part, count the integer digits
+      int integerPartLength = 1;
+      while ((value /= 10) != 0) {
+        integerPartLength++;
+      }
+      return integer >= integerPartLength;
+    }
+
+    @Override
+    public boolean isValid(float value) {
+      return isValid(Float.toString(value));
+    }
+
+    @Override
+    public boolean isValid(double value) {
+      return isValid(Double.toString(value));
+    }
   }
 
   private static final class PositiveAdapter extends PrimitiveAdapter<Object> {
@@ -47,7 +47,7 @@ final class NumberComparatorHelper {
     return Float.compare(number, value);
   }
 
-  private static int compareDouble(Double number, BigDecimal value, OptionalInt treatNanAs) {
+  static int compareDouble(Double number, BigDecimal value, OptionalInt treatNanAs) {
     final OptionalInt infinity = InfinityNumberComparatorHelper.infinityCheck(number, treatNanAs);
     if (infinity.isPresent()) {
       return infinity.getAsInt();
@@ -0,0 +1,19 @@
+package io.avaje.validation.spi;
+
+import io.avaje.validation.ConstraintViolation;
+
+/**
+ * Receives constraint violations as they are detected rather than having them collected into a
+ * Set. Violations are not deduplicated and are not held by the validation request, so a sink can
+ * write them to a file, counter or queue using constant memory.
+ */
+@FunctionalInterface
+public interface ViolationSink {
+
+  /**
+   * Accept a constraint violation.
+   *
+   * @param violation The constraint violation detected
+   */
+  void accept(ConstraintViolation violation);
+}
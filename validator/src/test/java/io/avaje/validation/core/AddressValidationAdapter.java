@@ -21,6 +21,9 @@ public final class AddressValidationAdapter implements ValidationAdapter<Address
 
   @Override
   public boolean validate(Address pojo, ValidationRequest request, String propertyName) {
+    if (!request.visit(pojo, false)) {
+      return true;
+    }
     if (propertyName != null) {
       request.pushPath(propertyName);
     }
@@ -0,0 +1,240 @@
+package io.avaje.validation.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.adapter.ValidationAdapter;
+import io.avaje.validation.adapter.ValidationRequest;
+
+class CompositeAdapterTest {
+
+  private final List<String> calls = new ArrayList<>();
+
+  private ValidationAdapter<String> adapter(String name, boolean valid) {
+    return (value, req, propertyName) -> {
+      calls.add(name);
+      return valid;
+    };
+  }
+
+  private ValidationAdapter.Primitive primitive(String name, boolean valid) {
+    return new ValidationAdapter.Primitive() {
+
+      @Override
+      public boolean validate(boolean value, ValidationRequest req, String propertyName) {
+        return call();
+      }
+
+      @Override
+      public boolean validate(byte value, ValidationRequest req, String propertyName) {
+        return call();
+      }
+
+      @Override
+      public boolean validate(char value, ValidationRequest req, String propertyName) {
+        return call();
+      }
+
+      @Override
+      public boolean validate(double value, ValidationRequest req, String propertyName) {
+        return call();
+      }
+
+      @Override
+      public boolean validate(float value, ValidationRequest req, String propertyName) {
+        return call();
+      }
+
+      @Override
+      public boolean validate(int value, ValidationRequest req, String propertyName) {
+        return call();
+      }
+
+      @Override
+      public boolean validate(long value, ValidationRequest req, String propertyName) {
+        return call();
+      }
+
+      @Override
+      public boolean validate(short value, ValidationRequest req, String propertyName) {
+        return call();
+      }
+
+      private boolean call() {
+        calls.add(name);
+        return valid;
+      }
+    };
+  }
+
+  @Test
+  void andThen_appliesInSequence() {
+    var composite = adapter("a", true).andThen(adapter("b", true)).andThen(adapter("c", true));
+
+    assertThat(composite.validate("x", null, "p")).isTrue();
+    assertThat(calls).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void andThen_nestedComposite_appliedInOrder() {
+    var composite = adapter("a", true).andThen(adapter("b", true).andThen(adapter("c", true)));
+
+    assertThat(composite.validate("x", null, "p")).isTrue();
+    assertThat(calls).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void andThen_nestedComposite_skippedAsWhole() {
+    var composite = adapter("a", false).andThen(adapter("b", true).andThen(adapter("c", true)));
+
+    assertThat(composite.validate("x", null, "p")).isTrue();
+    assertThat(calls).containsExactly("a");
+  }
+
+  @Test
+  void andThen_violationSkipsNextAdapterOnly() {
+    var composite =
+      adapter("a", true).andThen(adapter("b", false)).andThen(adapter("c", true)).andThen(adapter("d", false));
+
+    assertThat(composite.validate("x", null, "p")).isFalse();
+    assertThat(calls).containsExactly("a", "b", "d");
+  }
+
+  @Test
+  void andThen_lastAdapterSkipped_valid() {
+    var composite = adapter("a", true).andThen(adapter("b", false)).andThen(adapter("c", false));
+
+    assertThat(composite.validate("x", null, "p")).isTrue();
+    assertThat(calls).containsExactly("a", "b");
+  }
+
+  @Test
+  void andThen_constraints_violationCounts() {
+    var adapter =
+      BasicTest.ctx.<String>adapter(NotEmpty.class, Map.of("message", "empty"))
+        .andThen(BasicTest.ctx.adapter(Size.class, Map.of("message", "size", "min", 2, "max", 4)))
+        .andThen(BasicTest.ctx.adapter(Pattern.class, Map.of("message", "pattern", "regexp", "[a-z]+")));
+
+    // NotEmpty fails so Size is skipped, Pattern is applied
+    assertThat(violations(adapter, "")).containsExactly("empty", "pattern");
+    // Size fails so Pattern is skipped
+    assertThat(violations(adapter, "1")).containsExactly("size");
+    assertThat(violations(adapter, "toolong")).containsExactly("size");
+    assertThat(violations(adapter, "12")).containsExactly("pattern");
+    assertThat(violations(adapter, "ab")).isEmpty();
+  }
+
+  @interface NotEmpty {}
+
+  @interface Size {}
+
+  @interface Pattern {}
+
+  private static List<String> violations(ValidationAdapter<String> adapter, String value) {
+    var req = new DRequest((DValidator) BasicTest.validator, false, null, List.of());
+    adapter.validate(value, req, "p");
+    return req.violations().stream().map(ConstraintViolation::message).toList();
+  }
+
+  @Test
+  void andThen_reusedComposite_unchanged() {
+    var ab = adapter("a", true).andThen(adapter("b", true));
+    var abc = ab.andThen(adapter("c", true));
+
+    ab.validate("x", null, "p");
+    assertThat(calls).containsExactly("a", "b");
+    calls.clear();
+    abc.validate("x", null, "p");
+    assertThat(calls).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void primitive_andThen_violationSkipsNextAdapterOnly() {
+    var composite =
+      primitive("a", false).andThen(primitive("b", true)).andThen(primitive("c", true)).andThen(primitive("d", false));
+
+    assertThat(composite.validate(42, null, "p")).isFalse();
+    assertThat(calls).containsExactly("a", "c", "d");
+  }
+
+  @Test
+  void primitive_andThen_nestedComposite_skippedAsWhole() {
+    var composite = primitive("a", false).andThen(primitive("b", true).andThen(primitive("c", true)));
+
+    assertThat(composite.validate(42, null, "p")).isTrue();
+    assertThat(calls).containsExactly("a");
+  }
+
+  @Test
+  void primitive_andThen_appliesInSequence() {
+    var composite = primitive("a", true).andThen(primitive("b", true).andThen(primitive("c", true)));
+
+    assertThat(composite.validate(42L, null, "p")).isTrue();
+    assertThat(calls).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  void array_primitiveArray_elementsBoxed() {
+    ValidationAdapter<Object> element =
+      (value, req, propertyName) -> {
+        calls.add(propertyName + "=" + value);
+        return true;
+      };
+    ValidationAdapter<Object> notNull = (value, req, propertyName) -> value != null;
+    var arrayAdapter = notNull.array().andThenMulti(element);
+
+    assertThat(arrayAdapter.validate(new int[] {4, 2}, BasicTest.request, "p")).isTrue();
+    assertThat(calls).containsExactly("[0=4", "[1=2");
+  }
+
+  @Test
+  void mapValues_keyPathOnlyBuiltForViolations() {
+    var message = BasicTest.ctx.message("invalid", Map.of());
+    ValidationAdapter<Object> notBlank =
+      (value, req, propertyName) -> {
+        if (((String) value).isBlank()) {
+          req.addViolation(message, propertyName);
+          return false;
+        }
+        return true;
+      };
+    ValidationAdapter<Object> notNull = (value, req, propertyName) -> value != null;
+    var mapAdapter = notNull.mapValues().andThenMulti(notBlank);
+
+    var valid = new CountingKey("valid");
+    var invalid = new CountingKey("invalid");
+    var map = new LinkedHashMap<CountingKey, String>();
+    map.put(valid, "a");
+    map.put(invalid, " ");
+    var req = new DRequest((DValidator) BasicTest.validator, false, null, List.of());
+    mapAdapter.validate(map, req, "crew");
+
+    assertThat(valid.toStringCalls).isEqualTo(0);
+    var violation = req.violations().iterator().next();
+    assertThat(violation.path()).isEqualTo("crew[invalid]");
+    assertThat(violation.field()).isEqualTo("[invalid");
+  }
+
+  private static final class CountingKey {
+
+    private final String name;
+    private int toStringCalls;
+
+    CountingKey(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      toStringCalls++;
+      return name;
+    }
+  }
+}
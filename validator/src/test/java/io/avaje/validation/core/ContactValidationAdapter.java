@@ -27,6 +27,9 @@ public final class ContactValidationAdapter implements ValidationAdapter<Contact
 
   @Override
   public boolean validate(Contact pojo, ValidationRequest request, String propertyName) {
+    if (!request.visit(pojo, false)) {
+      return true;
+    }
     if (propertyName != null) {
       request.pushPath(propertyName);
     }
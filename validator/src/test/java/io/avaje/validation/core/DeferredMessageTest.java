@@ -0,0 +1,143 @@
+package io.avaje.validation.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+import io.avaje.validation.adapter.ValidationContext;
+import io.avaje.validation.spi.MessageInterpolator;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotBlank;
+
+class DeferredMessageTest {
+
+  private final AtomicInteger interpolations = new AtomicInteger();
+
+  private final MessageInterpolator interpolator =
+      (template, attributes) -> {
+        interpolations.incrementAndGet();
+        return template;
+      };
+
+  private final Validator validator =
+      Validator.builder()
+          .add(Customer.class, CustomerValidationAdapter::new)
+          .add(Address.class, AddressValidationAdapter::new)
+          .add(Contact.class, ContactValidationAdapter::new)
+          .messageInterpolator(interpolator)
+          .build();
+
+  private static Customer inactive() {
+    return new Customer(false, "name", LocalDate.now().minusDays(3));
+  }
+
+  @Test
+  void constraintMetadata() {
+    List<ConstraintViolation> violations = new ArrayList<>(validator.check(inactive()));
+    assertThat(violations).hasSize(1);
+    var violation = violations.get(0);
+    assertThat(violation.annotationType()).isEqualTo(AssertTrue.class);
+    assertThat(violation.messageKey()).isEqualTo("not true");
+    assertThat(violation.attributes().get("message")).isEqualTo("not true");
+    assertThat(violation.invalidValue()).isEqualTo(false);
+    assertThat(interpolations.get()).isEqualTo(1);
+  }
+
+  @Test
+  void invalidValue() {
+    var cust = new Customer(true, " ", LocalDate.now().minusDays(3));
+    cust.billingAddress.line1 = "";
+    List<ConstraintViolation> violations = new ArrayList<>(validator.check(cust));
+    assertThat(violations).hasSize(2);
+    assertThat(violations.get(0).path()).isEqualTo("name");
+    assertThat(violations.get(0).invalidValue()).isEqualTo(" ");
+    // the value of the cascaded property, not of the bean holding it
+    assertThat(violations.get(1).path()).isEqualTo("billingAddress.line1");
+    assertThat(violations.get(1).invalidValue()).isEqualTo("");
+  }
+
+  @Test
+  void invalidValueNotHashed() {
+    var request = new DRequest((DValidator) validator, false, null, List.of());
+    var message = ((ValidationContext) validator).message("size", Map.of());
+    List<Object> cyclic = new ArrayList<>();
+    cyclic.add(cyclic);
+
+    // hashing the cyclic list overflows the stack
+    request.addViolation(message, "values", cyclic);
+    request.addViolation(message, "values", cyclic);
+    assertThat(request.violations()).hasSize(1);
+    assertThat(request.violations().iterator().next().invalidValue()).isSameAs(cyclic);
+  }
+
+  @Test
+  void invalidValueNotPartOfEquality() {
+    var request = new DRequest((DValidator) validator, false, null, List.of());
+    var message = ((ValidationContext) validator).message("blank", Map.of());
+
+    request.addViolation(message, "name", " ");
+    request.addViolation(message, "name", "  ");
+    assertThat(request.violations()).hasSize(1);
+    assertThat(request.violations().iterator().next().invalidValue()).isEqualTo(" ");
+  }
+
+  @Test
+  void checkDeferred() {
+    List<ConstraintViolation> violations = new ArrayList<>(validator.checkDeferred(inactive()));
+    assertThat(violations).hasSize(1);
+    var violation = violations.get(0);
+    assertThat(violation.annotationType()).isEqualTo(AssertTrue.class);
+    assertThat(violation.message()).isEqualTo(violation.messageKey());
+    assertThat(violation.toString()).contains("not true");
+    assertThat(interpolations.get()).isEqualTo(0);
+
+    assertThat(validator.message(violation, null)).isEqualTo("not true");
+    assertThat(interpolations.get()).isEqualTo(1);
+  }
+
+  @Test
+  void builderDeferMessages() {
+    var deferred =
+        Validator.builder()
+            .add(Customer.class, CustomerValidationAdapter::new)
+            .add(Address.class, AddressValidationAdapter::new)
+            .add(Contact.class, ContactValidationAdapter::new)
+            .messageInterpolator(interpolator)
+            .deferMessages(true)
+            .build();
+    List<ConstraintViolation> violations = new ArrayList<>(deferred.check(inactive()));
+    assertThat(interpolations.get()).isEqualTo(0);
+    assertThat(violations.get(0).path()).isEqualTo("active");
+    assertThat(violations.get(0).message()).isEqualTo("not true");
+    assertThat(interpolations.get()).isEqualTo(0);
+  }
+
+  @Test
+  void recordEquality() {
+    var violation = new ConstraintViolation("name", "name", "must not be blank");
+    assertThat(violation).isEqualTo(new ConstraintViolation("name", "name", "must not be blank"));
+    assertThat(violation.equals(new ConstraintViolation("name", "name", "other"))).isFalse();
+    assertThat(violation.messageKey()).isEqualTo("must not be blank");
+    assertThat(violation.attributes()).isEmpty();
+  }
+
+  @Test
+  void equalityByMessageKey() {
+    var violation = new ConstraintViolation("name", "name", "must not be blank");
+    var interpolated =
+        new ConstraintViolation(
+            "name", "name", "darf nicht leer sein", NotBlank.class, "must not be blank", Map.of("max", 0), "");
+
+    assertThat(interpolated).isEqualTo(violation);
+    assertThat(interpolated.hashCode()).isEqualTo(violation.hashCode());
+    assertThat(violation.equals(new ConstraintViolation("other.name", "name", "must not be blank"))).isFalse();
+  }
+}
@@ -0,0 +1,53 @@
+package io.avaje.validation.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolationException;
+import io.avaje.validation.Validator;
+
+class ExceptionStackTraceTest {
+
+  private static ConstraintViolationException thrown(Validator validator) {
+    try {
+      validator.validate(new Customer(false, "name", LocalDate.now().minusDays(3)));
+      throw new IllegalStateException("don't get here");
+    } catch (ConstraintViolationException e) {
+      return e;
+    }
+  }
+
+  @Test
+  void stackTraceByDefault() {
+    var validator =
+        Validator.builder()
+            .add(Customer.class, CustomerValidationAdapter::new)
+            .add(Address.class, AddressValidationAdapter::new)
+            .add(Contact.class, ContactValidationAdapter::new)
+            .build();
+
+    var e = thrown(validator);
+    assertThat(Arrays.stream(e.getStackTrace()).anyMatch(t -> "thrown".equals(t.getMethodName()))).isTrue();
+    assertThat(e.getMessage()).isEqualTo("1 constraint violation(s) occurred.\n active: not true");
+  }
+
+  @Test
+  void stackless() {
+    var validator =
+        Validator.builder()
+            .add(Customer.class, CustomerValidationAdapter::new)
+            .add(Address.class, AddressValidationAdapter::new)
+            .add(Contact.class, ContactValidationAdapter::new)
+            .exceptionStackTrace(false)
+            .build();
+
+    var e = thrown(validator);
+    assertThat(e.getStackTrace().length).isEqualTo(0);
+    assertThat(e.violations()).hasSize(1);
+    assertThat(e.getMessage()).isEqualTo("1 constraint violation(s) occurred.\n active: not true");
+  }
+}
@@ -0,0 +1,67 @@
+package io.avaje.validation.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.Validator;
+import io.avaje.validation.adapter.ValidationAdapter;
+
+class IsValidTest {
+
+  private final AtomicInteger addressValidations = new AtomicInteger();
+
+  private final Validator validator =
+      Validator.builder()
+          .add(Customer.class, CustomerValidationAdapter::new)
+          .add(Contact.class, ContactValidationAdapter::new)
+          .add(Address.class, ctx -> counting(new AddressValidationAdapter(ctx)))
+          .build();
+
+  private ValidationAdapter<Address> counting(ValidationAdapter<Address> adapter) {
+    return (value, req, propertyName) -> {
+      addressValidations.incrementAndGet();
+      return adapter.validate(value, req, propertyName);
+    };
+  }
+
+  private static Customer customer() {
+    return new Customer(true, "name", LocalDate.now().minusDays(3));
+  }
+
+  @Test
+  void isValid() {
+    assertThat(validator.isValid(customer())).isTrue();
+    assertThat(validator.isValid(new Customer(false, "name", LocalDate.now().minusDays(3)))).isFalse();
+  }
+
+  @Test
+  void stopsAtFirstViolation() {
+    var cust = customer();
+    var contacts = new ArrayList<Contact>();
+    for (int i = 0; i < 2; i++) {
+      var contact = new Contact("first", "last");
+      contact.address = new Address();
+      contacts.add(contact);
+    }
+    cust.contacts = contacts;
+
+    assertThat(validator.isValid(cust)).isFalse();
+    // billing address and the address of the first contact only
+    assertThat(addressValidations.get()).isEqualTo(2);
+  }
+
+  @Test
+  void predicate() {
+    var valid = customer();
+    var invalid = new Customer(true, "", LocalDate.now().minusDays(3));
+    List<Customer> result = List.of(valid, invalid).stream().filter(validator.predicate()).toList();
+    assertThat(result).hasSize(1);
+    assertThat(result.get(0)).isSameAs(valid);
+  }
+}
@@ -0,0 +1,104 @@
+package io.avaje.validation.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.Validator;
+import io.avaje.validation.adapter.ValidationAdapter;
+import io.avaje.validation.adapter.ValidationContext;
+import io.avaje.validation.groups.Default;
+
+class KnownValidTest {
+
+  private final AtomicInteger addressValidations = new AtomicInteger();
+
+  private final Validator validator =
+      Validator.builder()
+          .add(Customer.class, CustomerValidationAdapter::new)
+          .add(Contact.class, ContactValidationAdapter::new)
+          .add(Address.class, ctx -> counting(new AddressValidationAdapter(ctx)))
+          .cacheValid(Address.class)
+          .build();
+
+  private ValidationAdapter<Address> counting(ValidationAdapter<Address> adapter) {
+    return (value, req, propertyName) -> {
+      addressValidations.incrementAndGet();
+      return adapter.validate(value, req, propertyName);
+    };
+  }
+
+  @Test
+  void validValueSkippedOnLaterRequests() {
+    var cust = new Customer(true, "name", LocalDate.now().minusDays(3));
+
+    assertThat(validator.check(cust)).isEmpty();
+    assertThat(addressValidations.get()).isEqualTo(1);
+
+    assertThat(validator.check(cust)).isEmpty();
+    assertThat(addressValidations.get()).isEqualTo(1);
+
+    // different group set is validated again
+    assertThat(validator.check(cust, Default.class, KnownValidTest.class)).isEmpty();
+    assertThat(addressValidations.get()).isEqualTo(2);
+  }
+
+  @Test
+  void invalidValueNotCached() {
+    var cust = new Customer(true, "name", LocalDate.now().minusDays(3));
+    cust.billingAddress.line1 = "";
+
+    assertThat(validator.check(cust)).hasSize(1);
+    assertThat(validator.check(cust)).hasSize(1);
+    assertThat(addressValidations.get()).isEqualTo(2);
+  }
+
+  @Test
+  void invalidValueNotCachedWhenViolationDuplicated() {
+    ValidationAdapter<Address> adapter = ((ValidationContext) validator).adapter(Address.class);
+    var address = new Address();
+    address.line1 = "";
+
+    var request = new DRequest((DValidator) validator, false, null, List.of());
+    adapter.validate(address, request, "address");
+    // the second violation equals the first so the set of violations does not grow
+    adapter.validate(address, request, "address");
+    assertThat(request.violations()).hasSize(1);
+
+    var next = new DRequest((DValidator) validator, false, null, List.of());
+    adapter.validate(address, next, "address");
+    assertThat(next.violations()).hasSize(1);
+    assertThat(addressValidations.get()).isEqualTo(3);
+  }
+
+  record Point(int x) {}
+
+  @Test
+  void equalInstancesSharedOnlyForImmutableTypes() {
+    var validations = new AtomicInteger();
+    ValidationAdapter<Point> adapter =
+        (value, req, propertyName) -> {
+          validations.incrementAndGet();
+          return true;
+        };
+
+    var byIdentity = Validator.builder().add(Point.class, ctx -> adapter).cacheValid(Point.class).build();
+    var point = new Point(1);
+    byIdentity.check(point);
+    byIdentity.check(point);
+    byIdentity.check(new Point(1));
+    assertThat(validations.get()).isEqualTo(2);
+
+    validations.set(0);
+    var byValue =
+        Validator.builder().add(Point.class, ctx -> adapter).cacheValidImmutable(Point.class).build();
+    byValue.check(new Point(1));
+    byValue.check(new Point(1));
+    byValue.check(new Point(2));
+    assertThat(validations.get()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,111 @@
+package io.avaje.validation.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.ConstraintViolationException;
+import io.avaje.validation.Validator;
+import io.avaje.validation.adapter.ValidationAdapter;
+
+class MaxViolationsTest {
+
+  private final AtomicInteger addressValidations = new AtomicInteger();
+
+  private final Validator validator =
+      Validator.builder()
+          .add(Customer.class, CustomerValidationAdapter::new)
+          .add(Contact.class, ContactValidationAdapter::new)
+          .add(Address.class, ctx -> counting(new AddressValidationAdapter(ctx)))
+          .build();
+
+  private final Validator failFast =
+      Validator.builder()
+          .add(Customer.class, CustomerValidationAdapter::new)
+          .add(Contact.class, ContactValidationAdapter::new)
+          .add(Address.class, ctx -> counting(new AddressValidationAdapter(ctx)))
+          .failFast(true)
+          .build();
+
+  private ValidationAdapter<Address> counting(ValidationAdapter<Address> adapter) {
+    return (value, req, propertyName) -> {
+      addressValidations.incrementAndGet();
+      return adapter.validate(value, req, propertyName);
+    };
+  }
+
+  /** Customer with 2 contacts that each have an invalid address. */
+  private static Customer customer() {
+    var cust = new Customer(true, "name", LocalDate.now().minusDays(3));
+    var contacts = new ArrayList<Contact>();
+    for (int i = 0; i < 2; i++) {
+      var contact = new Contact("first", "last");
+      contact.address = new Address();
+      contacts.add(contact);
+    }
+    cust.contacts = contacts;
+    return cust;
+  }
+
+  @Test
+  void unlimited() {
+    List<ConstraintViolation> violations = new ArrayList<>(validator.check(customer()));
+    assertThat(violations).hasSize(2);
+    assertThat(violations.get(1).path()).isEqualTo("contacts[1].address.line1");
+    assertThat(addressValidations.get()).isEqualTo(3);
+  }
+
+  @Test
+  void failFast_checkDoesNotThrow() {
+    List<ConstraintViolation> violations = new ArrayList<>(failFast.check(customer()));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).path()).isEqualTo("contacts[0].address.line1");
+    // the address of the second contact is not validated
+    assertThat(addressValidations.get()).isEqualTo(2);
+  }
+
+  @Test
+  void failFast_validateThrows() {
+    try {
+      failFast.validate(customer());
+      throw new IllegalStateException("don't get here");
+    } catch (ConstraintViolationException e) {
+      assertThat(e.violations()).hasSize(1);
+      assertThat(e.violations().iterator().next().path()).isEqualTo("contacts[0].address.line1");
+      assertThat(addressValidations.get()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void maxViolations() {
+    var max2 =
+        Validator.builder()
+            .add(Customer.class, CustomerValidationAdapter::new)
+            .add(Contact.class, ContactValidationAdapter::new)
+            .add(Address.class, ctx -> counting(new AddressValidationAdapter(ctx)))
+            .maxViolations(2)
+            .build();
+
+    // the limit is not reached, all addresses are validated
+    assertThat(max2.check(customer())).hasSize(2);
+    assertThat(addressValidations.get()).isEqualTo(3);
+  }
+
+  @Test
+  void checkFirst() {
+    List<ConstraintViolation> first = new ArrayList<>(validator.checkFirst(customer(), 1));
+    assertThat(first).hasSize(1);
+    assertThat(first.get(0).path()).isEqualTo("contacts[0].address.line1");
+    assertThat(addressValidations.get()).isEqualTo(2);
+
+    // the limit applies to that request only
+    assertThat(validator.check(customer())).hasSize(2);
+    assertThat(addressValidations.get()).isEqualTo(5);
+  }
+}
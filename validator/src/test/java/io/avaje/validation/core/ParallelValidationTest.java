@@ -0,0 +1,101 @@
+package io.avaje.validation.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+
+class ParallelValidationTest {
+
+  private final Validator serial =
+      Validator.builder()
+          .add(Customer.class, CustomerValidationAdapter::new)
+          .add(Address.class, AddressValidationAdapter::new)
+          .add(Contact.class, ContactValidationAdapter::new)
+          .build();
+
+  private final Validator parallel =
+      Validator.builder()
+          .add(Customer.class, CustomerValidationAdapter::new)
+          .add(Address.class, AddressValidationAdapter::new)
+          .add(Contact.class, ContactValidationAdapter::new)
+          .parallelThreshold(10)
+          .parallelPool(new ForkJoinPool(4))
+          .build();
+
+  private static Contact invalidContact() {
+    var contact = new Contact();
+    contact.address = new Address();
+    return contact;
+  }
+
+  private static Customer customer(List<Contact> contacts) {
+    var cust = new Customer(true, "name", LocalDate.now().minusDays(3));
+    for (int i = 0; i < 1000; i++) {
+      contacts.add(i % 100 == 7 ? invalidContact() : new Contact());
+    }
+    cust.contacts = contacts;
+    return cust;
+  }
+
+  @Test
+  void sameViolationsInElementOrder() {
+    var cust = customer(new ArrayList<>());
+    List<ConstraintViolation> expected = new ArrayList<>(serial.check(cust));
+    List<ConstraintViolation> violations = new ArrayList<>(parallel.check(cust));
+
+    assertThat(violations).hasSize(11);
+    assertThat(violations).isEqualTo(expected);
+    assertThat(violations.get(1).path()).isEqualTo("contacts[7].address.line1");
+    assertThat(violations.get(10).path()).isEqualTo("contacts[907].address.line1");
+  }
+
+  @Test
+  void nonRandomAccess() {
+    var cust = customer(new LinkedList<>());
+    List<ConstraintViolation> violations = new ArrayList<>(parallel.check(cust));
+    assertThat(violations).isEqualTo(new ArrayList<>(serial.check(cust)));
+    assertThat(violations.get(10).path()).isEqualTo("contacts[907].address.line1");
+  }
+
+  @Test
+  void belowThreshold() {
+    var cust = new Customer(true, "name", LocalDate.now().minusDays(3));
+    cust.contacts = List.of(invalidContact());
+    List<ConstraintViolation> violations = new ArrayList<>(parallel.check(cust));
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0).path()).isEqualTo("contacts[0].address.line1");
+  }
+
+  @Test
+  void visitedSharedBySubtasks() {
+    var tracking =
+        Validator.builder()
+            .add(Customer.class, CustomerValidationAdapter::new)
+            .add(Address.class, AddressValidationAdapter::new)
+            .add(Contact.class, ContactValidationAdapter::new)
+            .trackVisited(true)
+            .parallelThreshold(10)
+            .parallelPool(new ForkJoinPool(4))
+            .build();
+    var shared = invalidContact();
+    var cust = new Customer(true, "name", LocalDate.now().minusDays(3));
+    cust.contacts = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      cust.contacts.add(shared);
+    }
+    // size of contacts plus the shared contact validated once, whichever subtask visits it first
+    List<ConstraintViolation> violations = new ArrayList<>(tracking.check(cust));
+    assertThat(violations).hasSize(2);
+    assertThat(violations.get(0).path()).isEqualTo("contacts");
+    assertThat(violations.get(1).path()).endsWith(".address.line1");
+  }
+}
@@ -3,6 +3,7 @@ package io.avaje.validation.core;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.List;
+import java.util.ListResourceBundle;
 import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
@@ -31,4 +32,50 @@ class TemplateLookupTest {
     assertThat(lookup.lookup(key, Locale.ENGLISH)).isEqualTo("My literal msg");
     assertThat(lookup.lookup(key, Locale.GERMAN)).isEqualTo("My literal msg");
   }
+
+  @Test
+  void loadLocaleOnFirstUse() {
+    final var localeResolver = new LocaleResolver(Locale.ENGLISH, List.of(Locale.GERMAN, Locale.FRENCH));
+    final var lazyLookup =
+        new TemplateLookup(new ResourceBundleManager(List.of(), List.of(), localeResolver));
+    assertThat(lazyLookup.loadedLocales()).isEmpty();
+
+    assertThat(lazyLookup.lookup("{avaje.AssertTrue.message}", Locale.GERMAN)).isEqualTo("muss wahr sein");
+    assertThat(lazyLookup.loadedLocales()).containsExactly(Locale.GERMAN);
+
+    // not a configured locale
+    assertThat(lazyLookup.lookup("{avaje.AssertTrue.message}", Locale.ITALIAN)).isEqualTo("{avaje.AssertTrue.message}");
+    assertThat(lazyLookup.loadedLocales()).containsExactly(Locale.GERMAN);
+  }
+
+  @Test
+  void lookupPrecompiledBundle() {
+    final var localeResolver = new LocaleResolver(Locale.ENGLISH, List.of(Locale.GERMAN));
+    final var bundleManager =
+        new ResourceBundleManager(List.of(), List.of(new PrecompiledGerman()), localeResolver);
+    final var precompiledLookup = new TemplateLookup(bundleManager);
+
+    final String key = "{avaje.AssertTrue.message}";
+    assertThat(precompiledLookup.lookup(key, Locale.ENGLISH)).isEqualTo("must be true");
+    assertThat(precompiledLookup.lookup(key, Locale.GERMAN)).isEqualTo("precompiled wahr");
+  }
+
+  /** As generated by the processor for io.avaje.validation.Messages and German. */
+  static final class PrecompiledGerman extends ListResourceBundle {
+
+    @Override
+    public String getBaseBundleName() {
+      return "io.avaje.validation.Messages";
+    }
+
+    @Override
+    public Locale getLocale() {
+      return Locale.GERMAN;
+    }
+
+    @Override
+    protected Object[][] getContents() {
+      return new Object[][] {{"avaje.AssertTrue.message", "precompiled wahr"}};
+    }
+  }
 }
@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 
 class ValidatorTest {
@@ -119,4 +120,14 @@ class ValidatorTest {
   void testSuccess() {
     validator.validate(new Customer(true, " success ", LocalDate.now().minusDays(3)));
   }
+
+  @Test
+  void checkProperty_handWrittenAdapter_unknownProperty() {
+    var cust = new Customer(true, "name", LocalDate.now().minusDays(3));
+    assertThatThrownBy(() -> validator.checkProperty(cust, "name"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Unknown property name");
+    assertThatThrownBy(() -> validator.checkValue(Customer.class, "name", "x"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
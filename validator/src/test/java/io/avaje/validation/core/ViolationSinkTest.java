@@ -0,0 +1,135 @@
+package io.avaje.validation.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+import io.avaje.validation.adapter.ValidationContext;
+import io.avaje.validation.adapter.ValidationRequest;
+import io.avaje.validation.groups.Default;
+
+class ViolationSinkTest {
+
+  private final Validator validator =
+      Validator.builder()
+          .add(Customer.class, CustomerValidationAdapter::new)
+          .add(Address.class, AddressValidationAdapter::new)
+          .add(Contact.class, ContactValidationAdapter::new)
+          .build();
+
+  private static Customer customer() {
+    var cust = new Customer(false, "name", LocalDate.now().minusDays(3));
+    var contact = new Contact("first", "last");
+    contact.address = new Address();
+    cust.contacts = List.of(contact);
+    return cust;
+  }
+
+  @Test
+  void checkTo() {
+    List<ConstraintViolation> received = new ArrayList<>();
+    int count = validator.checkTo(customer(), received::add);
+
+    assertThat(count).isEqualTo(2);
+    assertThat(received).hasSize(2);
+    assertThat(received.get(0).path()).isEqualTo("active");
+    assertThat(received.get(0).message()).isEqualTo("not true");
+    assertThat(received.get(1).path()).isEqualTo("contacts[0].address.line1");
+  }
+
+  @Test
+  void checkTo_valid() {
+    List<ConstraintViolation> received = new ArrayList<>();
+    var cust = new Customer(true, "name", LocalDate.now().minusDays(3));
+
+    assertThat(validator.checkTo(cust, received::add)).isEqualTo(0);
+    assertThat(received).isEmpty();
+  }
+
+  @Test
+  void checkTo_maxViolations() {
+    List<ConstraintViolation> received = new ArrayList<>();
+    var failFast =
+        Validator.builder()
+            .add(Customer.class, CustomerValidationAdapter::new)
+            .add(Address.class, AddressValidationAdapter::new)
+            .add(Contact.class, ContactValidationAdapter::new)
+            .failFast(true)
+            .build();
+
+    int count = failFast.checkTo(customer(), received::add);
+    assertThat(count).isEqualTo(1);
+    assertThat(received).hasSize(1);
+    assertThat(received.get(0).path()).isEqualTo("active");
+  }
+
+  @Test
+  void requestFactory() {
+    List<String> templates = new ArrayList<>();
+    var custom =
+        Validator.builder()
+            .add(Customer.class, CustomerValidationAdapter::new)
+            .add(Address.class, AddressValidationAdapter::new)
+            .add(Contact.class, ContactValidationAdapter::new)
+            .requestFactory((locale, groups) -> new TemplateRequest(groups, templates))
+            .build();
+
+    // the violations go to the custom request only
+    assertThat(custom.check(customer())).isEmpty();
+    assertThat(templates).containsExactly("not true", "myCustomNullMessage");
+  }
+
+  /** Request that only records the message templates. */
+  static final class TemplateRequest implements ValidationRequest {
+
+    private final List<Class<?>> groups;
+    private final List<String> templates;
+
+    TemplateRequest(List<Class<?>> groups, List<String> templates) {
+      this.groups = groups.isEmpty() ? List.of(Default.class) : groups;
+      this.templates = templates;
+    }
+
+    @Override
+    public List<Class<?>> groups() {
+      return groups;
+    }
+
+    @Override
+    public void addViolation(ValidationContext.Message message, String propertyName) {
+      templates.add(message.template());
+    }
+
+    @Override
+    public void pushPath(String path) {
+      // not used
+    }
+
+    @Override
+    public void popPath() {
+      // not used
+    }
+
+    @Override
+    public void throwWithViolations() {
+      // not used
+    }
+
+    @Override
+    public Set<ConstraintViolation> violations() {
+      return Set.of();
+    }
+
+    @Override
+    public boolean hasViolations() {
+      return !templates.isEmpty();
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package io.avaje.validation.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.Validator;
+
+class VisitedTest {
+
+  private final Validator validator =
+      Validator.builder()
+          .add(Customer.class, CustomerValidationAdapter::new)
+          .add(Address.class, AddressValidationAdapter::new)
+          .add(Contact.class, ContactValidationAdapter::new)
+          .build();
+
+  private static Customer customerSharingAddress() {
+    var cust = new Customer(true, "name", LocalDate.now().minusDays(3), null);
+    var shared = new Contact();
+    shared.address = new Address();
+    cust.billingAddress = shared.address;
+    cust.shippingAddress = shared.address;
+    cust.contacts = List.of(shared, shared);
+    return cust;
+  }
+
+  private static List<String> paths(Set<ConstraintViolation> violations) {
+    return violations.stream().map(ConstraintViolation::path).toList();
+  }
+
+  @Test
+  void sharedInstancesValidatedEachTime() {
+    var violations = validator.check(customerSharingAddress());
+    assertThat(paths(violations))
+      .containsExactly(
+        "billingAddress.line1",
+        "shippingAddress.line1",
+        "contacts[0].address.line1",
+        "contacts[1].address.line1");
+  }
+
+  @Test
+  void trackVisited() {
+    var tracking =
+        Validator.builder()
+            .add(Customer.class, CustomerValidationAdapter::new)
+            .add(Address.class, AddressValidationAdapter::new)
+            .add(Contact.class, ContactValidationAdapter::new)
+            .trackVisited(true)
+            .build();
+    var cust = customerSharingAddress();
+
+    // the shared address is reported once at the path it is first visited by
+    assertThat(paths(tracking.check(cust))).containsExactly("billingAddress.line1");
+    // visited instances are tracked per request
+    assertThat(paths(tracking.check(cust))).containsExactly("billingAddress.line1");
+  }
+
+  @Test
+  void trackVisited_distinctInstances() {
+    var tracking =
+        Validator.builder()
+            .add(Customer.class, CustomerValidationAdapter::new)
+            .add(Address.class, AddressValidationAdapter::new)
+            .add(Contact.class, ContactValidationAdapter::new)
+            .trackVisited(true)
+            .build();
+    var cust = new Customer(true, "name", LocalDate.now().minusDays(3), null);
+    cust.billingAddress = new Address();
+    cust.shippingAddress = new Address();
+
+    assertThat(paths(tracking.check(cust)))
+      .containsExactly("billingAddress.line1", "shippingAddress.line1");
+  }
+}
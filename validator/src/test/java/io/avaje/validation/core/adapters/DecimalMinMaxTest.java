@@ -77,4 +77,64 @@ class DecimalMinMaxTest extends BasicTest {
     assertThat(minAdapter.validate(BigInteger.valueOf(-01234), request)).isFalse();
     assertThat(minAdapter.validate(BigDecimal.valueOf(-01234), request)).isFalse();
   }
+
+  @Test
+  void testPrimitive() {
+    var min = minAdapter.primitive();
+    var max = maxAdapter.primitive();
+    assertThat(min.validate(-69, request, "x")).isTrue();
+    assertThat(min.validate(-69L, request, "x")).isTrue();
+    assertThat(min.validate(-69D, request, "x")).isTrue();
+    assertThat(min.validate(-70, request, "x")).isFalse();
+    assertThat(min.validate(-69.1D, request, "x")).isFalse();
+    assertThat(max.validate(69, request, "x")).isTrue();
+    assertThat(max.validate((short) 69, request, "x")).isTrue();
+    assertThat(max.validate(69f, request, "x")).isTrue();
+    assertThat(max.validate(70L, request, "x")).isFalse();
+    assertThat(max.validate(69.1f, request, "x")).isFalse();
+    assertThat(max.validate(Double.POSITIVE_INFINITY, request, "x")).isFalse();
+  }
+
+  @Test
+  void testPrimitiveExclusive() {
+    var exclusiveMax =
+        ctx.adapter(
+                DecimalMax.class,
+                Map.of("message", "maxwell", "value", "69.5", "inclusive", false, "_type", "Number"))
+            .primitive();
+    assertThat(exclusiveMax.validate(69, request, "x")).isTrue();
+    assertThat(exclusiveMax.validate(69.4D, request, "x")).isTrue();
+    assertThat(exclusiveMax.validate(70, request, "x")).isFalse();
+    assertThat(exclusiveMax.validate(69.5D, request, "x")).isFalse();
+  }
+
+  @Test
+  void testPrimitiveInexactBound() {
+    // 0.1 is not exactly representable as a double, compared as a BigDecimal
+    var max =
+        ctx.adapter(DecimalMax.class, Map.of("message", "maxwell", "value", "0.1", "_type", "Number"))
+            .primitive();
+    assertThat(max.validate(0.1D, request, "x")).isTrue();
+    assertThat(max.validate(Math.nextUp(0.1D), request, "x")).isFalse();
+    assertThat(max.validate(0.1f, request, "x")).isFalse();
+  }
+
+  @Test
+  void testPrimitiveNaN() {
+    assertThat(maxAdapter.primitive().validate(Double.NaN, request, "x")).isTrue();
+    assertThat(minAdapter.primitive().validate(Double.NaN, request, "x")).isFalse();
+    assertThat(minAdapter.primitive().validate(Float.NEGATIVE_INFINITY, request, "x")).isFalse();
+  }
+
+  @Test
+  void testPreParsedValue() {
+    final ValidationAdapter<Object> adapter =
+        ctx.adapter(
+            DecimalMax.class,
+            Map.of("message", "maxwell", "value", BigDecimal.valueOf(1050L, 2), "_type", "Number"));
+
+    assertThat(adapter.validate(BigDecimal.valueOf(1050L, 2), request)).isTrue();
+    assertThat(adapter.validate(10.51D, request)).isFalse();
+    assertThat(adapter.validate(11L, request)).isFalse();
+  }
 }
@@ -53,4 +53,15 @@ class DigitsTest extends BasicTest {
     assertThat(digitAdapter.validate(0.12345D, request)).isTrue();
     assertThat(digitAdapter.validate(BigDecimal.valueOf(0.12345), request)).isTrue();
   }
+
+  @Test
+  void testPrimitive() {
+    var primitive = digitAdapter.primitive();
+    assertThat(primitive.validate(12345, request, "x")).isTrue();
+    assertThat(primitive.validate(-12345L, request, "x")).isTrue();
+    assertThat(primitive.validate(0.12345D, request, "x")).isTrue();
+    assertThat(primitive.validate(123456, request, "x")).isFalse();
+    assertThat(primitive.validate(-123456L, request, "x")).isFalse();
+    assertThat(primitive.validate(0.123456D, request, "x")).isFalse();
+  }
 }
@@ -0,0 +1,110 @@
+package io.avaje.validation.core.adapters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.avaje.validation.ConstraintViolation;
+import io.avaje.validation.adapter.ValidationAdapter;
+import io.avaje.validation.adapter.ValidationContext;
+import io.avaje.validation.adapter.ValidationRequest;
+import io.avaje.validation.core.BasicTest;
+
+class FusedStringTest extends BasicTest {
+
+  static final ValidationContext ctx = (ValidationContext) validator;
+
+  @interface NotBlank {}
+
+  @interface Size {}
+
+  @interface Pattern {}
+
+  ValidationAdapter<CharSequence> notBlank = ctx.adapter(NotBlank.class, Map.of("message", "blank"));
+  ValidationAdapter<CharSequence> size =
+      ctx.adapter(Size.class, Map.of("message", "size", "min", 2, "max", 5, "_type", "String"));
+  ValidationAdapter<CharSequence> pattern =
+      ctx.adapter(Pattern.class, Map.of("message", "pattern", "regexp", "[a-z0-9_-]+"));
+
+  ValidationAdapter<CharSequence> fused = notBlank.andThen(size).andThen(pattern);
+
+  private List<String> messages(ValidationAdapter<CharSequence> adapter, String value) {
+    final ValidationRequest req = ctx.request(null, List.of());
+    adapter.validate(value, req, "p");
+    return req.violations().stream().map(ConstraintViolation::message).toList();
+  }
+
+  @Test
+  void fused() {
+    assertThat(fused.getClass().getSimpleName()).isEqualTo("FusedStringAdapter");
+  }
+
+  @Test
+  void valid() {
+    assertThat(messages(fused, "ab_1")).isEmpty();
+    assertThat(messages(fused, "a-b")).isEmpty();
+  }
+
+  @Test
+  void blank() {
+    assertThat(messages(fused, null)).containsExactly("blank");
+    // size is skipped, the pattern is applied
+    assertThat(messages(fused, "")).containsExactly("blank", "pattern");
+    assertThat(messages(fused, "  ")).containsExactly("blank", "pattern");
+  }
+
+  @Test
+  void blank_patternMatchesEmpty() {
+    ValidationAdapter<CharSequence> emptyPattern =
+        ctx.adapter(Pattern.class, Map.of("message", "pattern", "regexp", "[a-z]*"));
+    var adapter = notBlank.andThen(size).andThen(emptyPattern);
+
+    assertThat(messages(adapter, "")).containsExactly("blank");
+  }
+
+  @Test
+  void size() {
+    assertThat(messages(fused, "a")).containsExactly("size");
+    // size is checked before the pattern
+    assertThat(messages(fused, "ABCDEF")).containsExactly("size");
+  }
+
+  @Test
+  void pattern() {
+    assertThat(messages(fused, "aB")).containsExactly("pattern");
+    assertThat(messages(fused, " ab ")).containsExactly("pattern");
+    assertThat(messages(fused, "aé")).containsExactly("pattern");
+  }
+
+  @Test
+  void sameAsComposedAdapters() {
+    // a lambda is not fused
+    final ValidationAdapter<CharSequence> plainNotBlank = notBlank::validate;
+    final var composed = plainNotBlank.andThen(size).andThen(pattern);
+    final var notBlankPattern = notBlank.andThen(pattern);
+    final var composedNotBlankPattern = plainNotBlank.andThen(pattern);
+    for (String value : new String[] {null, "", " ", "a", "ab", "aB", "abcdef", "ABCDEF", "a b"}) {
+      assertThat(messages(fused, value)).isEqualTo(messages(composed, value));
+      assertThat(fused.validate(value, ctx.request(null, List.of()), "p"))
+          .isEqualTo(composed.validate(value, ctx.request(null, List.of()), "p"));
+      assertThat(messages(notBlankPattern, value)).isEqualTo(messages(composedNotBlankPattern, value));
+    }
+    // pattern before size is not fused but keeps the order
+    final var patternSize = notBlank.andThen(pattern).andThen(size);
+    assertThat(messages(patternSize, "ABCDEF")).containsExactly("pattern");
+  }
+
+  @Test
+  void charClass() {
+    assertThat(BasicAdapters.PatternAdapter.charClass("[a-z]+")).isNotNull();
+    assertThat(BasicAdapters.PatternAdapter.charClass("^[A-Za-z0-9._-]*$")).isNotNull();
+    assertThat(BasicAdapters.PatternAdapter.charClass("[^a-z]+")).isNull();
+    assertThat(BasicAdapters.PatternAdapter.charClass("[\\w]+")).isNull();
+    assertThat(BasicAdapters.PatternAdapter.charClass("[a-z]{2}")).isNull();
+    assertThat(BasicAdapters.PatternAdapter.charClass("[a-z&&[^b]]+")).isNull();
+    assertThat(BasicAdapters.PatternAdapter.charClass("ab+")).isNull();
+  }
+}
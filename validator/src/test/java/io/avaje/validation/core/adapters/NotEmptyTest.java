@@ -58,4 +58,28 @@ class NotEmptyTest extends BasicTest {
     assertThat(notEmptyAdapter.validate(new long[] {1}, request)).isTrue();
     assertThat(notEmptyAdapter.validate(new String[] {""}, request)).isTrue();
   }
+
+  @Test
+  void testArrayType() {
+    var arrayAdapter =
+        ctx.adapter(NotEmpty.class, Map.of("message", "this can empty", "_type", "Array"));
+    assertThat(arrayAdapter.validate(new int[] {1}, request)).isTrue();
+    assertThat(arrayAdapter.validate(new String[] {""}, request)).isTrue();
+    assertThat(arrayAdapter.validate(new long[] {}, request)).isFalse();
+    assertThat(arrayAdapter.validate(null, request)).isFalse();
+  }
+
+  @Test
+  void testDeclaredArrayType() {
+    var longArrayAdapter =
+        ctx.adapter(NotEmpty.class, Map.of("message", "this can empty", "_type", "Array.long"));
+    assertThat(longArrayAdapter.validate(new long[] {1}, request)).isTrue();
+    assertThat(longArrayAdapter.validate(new long[] {}, request)).isFalse();
+    assertThat(longArrayAdapter.validate(null, request)).isFalse();
+
+    var objectArrayAdapter =
+        ctx.adapter(NotEmpty.class, Map.of("message", "this can empty", "_type", "Array.Object"));
+    assertThat(objectArrayAdapter.validate(new String[] {""}, request)).isTrue();
+    assertThat(objectArrayAdapter.validate(new String[] {}, request)).isFalse();
+  }
 }
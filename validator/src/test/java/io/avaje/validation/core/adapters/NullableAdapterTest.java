@@ -36,4 +36,11 @@ class NullableAdapterTest extends BasicTest {
     assertThat(notNulladapter.validate(0, request)).isTrue();
     assertThat(nonNulladapter.validate(0, request)).isTrue();
   }
+
+  @Test
+  void testPrimitive() {
+    assertThat(nulladapter.primitive().validate(0, request, "x")).isFalse();
+    assertThat(notNulladapter.primitive().validate(0L, request, "x")).isTrue();
+    assertThat(nonNulladapter.primitive().validate(false, request, "x")).isTrue();
+  }
 }
@@ -64,4 +64,29 @@ class SizeTest extends BasicTest {
     assertThat(sizeAdapter.validate(Set.of(1, 2, 3, 4), request)).isTrue();
     assertThat(sizeAdapter.validate(new int[] {1, 2, 3, 4}, request)).isTrue();
   }
+
+  @Test
+  void testArrayType() {
+    var arrayAdapter =
+        ctx.adapter(Size.class, Map.of("message", "blank?", "min", 2, "max", 3, "_type", "Array"));
+    assertThat(arrayAdapter.validate(new long[] {1, 2}, request)).isTrue();
+    assertThat(arrayAdapter.validate(new String[] {"a", "b", "c"}, request)).isTrue();
+    assertThat(arrayAdapter.validate(new double[] {}, request)).isFalse();
+    // if greater than 0 continue validation
+    assertThat(arrayAdapter.validate(new int[] {1}, request)).isTrue();
+    assertThat(arrayAdapter.validate(new int[] {1, 2, 3, 4}, request)).isTrue();
+  }
+
+  @Test
+  void testDeclaredArrayType() {
+    var intArrayAdapter =
+        ctx.adapter(Size.class, Map.of("message", "blank?", "min", 2, "max", 3, "_type", "Array.int"));
+    assertThat(intArrayAdapter.validate(new int[] {1, 2}, request)).isTrue();
+    assertThat(intArrayAdapter.validate(new int[] {}, request)).isFalse();
+
+    var objectArrayAdapter =
+        ctx.adapter(Size.class, Map.of("message", "blank?", "min", 2, "max", 3, "_type", "Array.Object"));
+    assertThat(objectArrayAdapter.validate(new String[] {"a", "b", "c"}, request)).isTrue();
+    assertThat(objectArrayAdapter.validate(new int[][] {}, request)).isFalse();
+  }
 }